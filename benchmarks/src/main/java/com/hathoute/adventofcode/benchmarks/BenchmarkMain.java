@@ -0,0 +1,22 @@
+package com.hathoute.adventofcode.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Same as JMH's own main, except that the GC profiler (allocation rates) is always enabled.
+ */
+public final class BenchmarkMain {
+
+  public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+    final var commandLine = new CommandLineOptions(args);
+    final var options = new OptionsBuilder().parent(commandLine)
+                                            .addProfiler(GCProfiler.class)
+                                            .build();
+    new Runner(options).run();
+  }
+}
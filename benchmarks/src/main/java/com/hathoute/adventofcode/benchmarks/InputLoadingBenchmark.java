@@ -0,0 +1,71 @@
+package com.hathoute.adventofcode.benchmarks;
+
+import com.hathoute.adventofcode.MappedInput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Loading only: reading a puzzle input file into lines, either decoded to {@link String}s or as
+ * memory-mapped views, none of them parsed (see {@link ParseBenchmark}). Parts of a same day share their input, hence the day-level parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputLoadingBenchmark {
+
+  @Param({"day1", "day2", "day3", "day4", "day5", "day6", "day7", "day8", "day9", "day10",
+      "day11", "day12", "day13"})
+  public String day;
+
+  @Param({PuzzleInputs.BUNDLED, PuzzleInputs.SCALED})
+  public String input;
+
+  private Path file;
+
+  @Setup
+  public void setUp() throws IOException {
+    final var definition = PuzzleInputs.definition(day + "/part1");
+    // Resources are packed in the benchmarks jar, the mapped loader needs an actual file.
+    file = Files.createTempFile(day, ".txt");
+    Files.write(file, PuzzleInputs.load(definition, input));
+  }
+
+  @TearDown
+  public void tearDown() {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Benchmark
+  public List<String> readLines() throws IOException {
+    return Files.readAllLines(file);
+  }
+
+  @Benchmark
+  public void mapLines(final Blackhole blackhole) {
+    MappedInput.map(file).forEachLine(blackhole::consume);
+  }
+}
@@ -0,0 +1,55 @@
+package com.hathoute.adventofcode.benchmarks;
+
+import com.hathoute.adventofcode.ParallelPuzzle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sequential against parallel solves of the {@link ParallelPuzzle}s, on generated inputs large
+ * enough for the split to pay off ({@code scale} as understood by each day's generator).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelSolveBenchmark {
+
+  @Param({"day1/part1", "day1/part2", "day3/part1", "day3/part2", "day5/part2"})
+  public String puzzle;
+
+  @Param({"100000", "1000000"})
+  public int scale;
+
+  private ParallelPuzzle solver;
+  private List<String> lines;
+
+  @Setup
+  public void setUp() {
+    final var definition = PuzzleInputs.definition(puzzle);
+    solver = (ParallelPuzzle) definition.newInstance();
+    lines = PuzzleInputs.generate(definition, scale);
+  }
+
+  @Benchmark
+  public String sequential() {
+    return solver.solve(lines);
+  }
+
+  @Benchmark
+  public String parallel() {
+    return solver.solveParallel(lines);
+  }
+}
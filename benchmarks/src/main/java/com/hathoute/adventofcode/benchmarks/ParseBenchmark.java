@@ -0,0 +1,59 @@
+package com.hathoute.adventofcode.benchmarks;
+
+import com.hathoute.adventofcode.ParsingPuzzle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing against solving of the {@link ParsingPuzzle}s: lines already loaded (unlike
+ * {@link InputLoadingBenchmark}) are turned into the puzzle's model, which is solved on its own
+ * from a model parsed beforehand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+  @Param({"day5/part1", "day5/part2", "day8/part1", "day8/part2"})
+  public String puzzle;
+
+  @Param({PuzzleInputs.BUNDLED, PuzzleInputs.SCALED})
+  public String input;
+
+  private ParsingPuzzle<Object> solver;
+  private List<String> lines;
+  private Object parsed;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    final var definition = PuzzleInputs.definition(puzzle);
+    solver = (ParsingPuzzle<Object>) definition.newInstance();
+    lines = PuzzleInputs.load(definition, input);
+    parsed = solver.parse(lines);
+  }
+
+  @Benchmark
+  public Object parse() {
+    return solver.parse(lines);
+  }
+
+  @Benchmark
+  public String solveParsed() {
+    return solver.solveParsed(parsed);
+  }
+}
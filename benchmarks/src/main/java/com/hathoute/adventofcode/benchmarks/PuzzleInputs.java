@@ -0,0 +1,50 @@
+package com.hathoute.adventofcode.benchmarks;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import com.hathoute.adventofcode.generator.InputGenerators;
+import com.hathoute.adventofcode.runner.PuzzleDefinition;
+import com.hathoute.adventofcode.runner.PuzzleRegistry;
+import java.util.List;
+
+final class PuzzleInputs {
+
+  static final String BUNDLED = "bundled";
+  static final String SCALED = "scaled";
+
+  private static final long SEED = 2023;
+  // Generator scale per day, see each generator for its meaning. Day 6 is kept small since part 2
+  // reads its races concatenated into a single long, which overflows past about five races.
+  private static final int[] SCALES = {100_000, 100_000, 10_000, 100_000, 1_000, 5, 100_000,
+      100_000, 100_000, 1_000, 500, 10_000, 10_000};
+  private static final PuzzleRegistry REGISTRY = PuzzleRegistry.discover();
+
+  private PuzzleInputs() {
+  }
+
+  /**
+   * @param name as printed by {@link PuzzleDefinition#name()}, e.g. {@code day1/part2}.
+   */
+  static PuzzleDefinition definition(final String name) {
+    return REGISTRY.definitions()
+                   .stream()
+                   .filter(d -> d.name().equals(name))
+                   .findFirst()
+                   .orElseThrow(() -> new IllegalArgumentException("Unknown puzzle " + name));
+  }
+
+  static List<String> load(final PuzzleDefinition definition, final String input) {
+    return switch (input) {
+      case BUNDLED -> PuzzleUtils.readLinesFromFile(definition.inputPath());
+      case SCALED -> scale(definition);
+      default -> throw new IllegalArgumentException("Unknown input " + input);
+    };
+  }
+
+  private static List<String> scale(final PuzzleDefinition definition) {
+    return generate(definition, SCALES[definition.day() - 1]);
+  }
+
+  static List<String> generate(final PuzzleDefinition definition, final int scale) {
+    return InputGenerators.forDay(definition.day()).generate(SEED, scale);
+  }
+}
@@ -0,0 +1,54 @@
+package com.hathoute.adventofcode.benchmarks;
+
+import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and solving: the input is loaded into lines beforehand, see
+ * {@link InputLoadingBenchmark} for the loading side and {@link ParseBenchmark} for parsing alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolveBenchmark {
+
+  @Param({"day1/part1", "day1/part2", "day2/part1", "day2/part2", "day3/part1", "day3/part2",
+      "day4/part1", "day4/part2", "day5/part1", "day5/part2", "day6/part1", "day6/part2",
+      "day7/part1", "day7/part2", "day8/part1", "day8/part2", "day9/part1", "day9/part2",
+      "day10/part1", "day10/part2", "day11/part1", "day11/part2", "day12/part1", "day12/part2",
+      "day13/part1", "day13/part2"})
+  public String puzzle;
+
+  @Param({PuzzleInputs.BUNDLED, PuzzleInputs.SCALED})
+  public String input;
+
+  private AdventOfCodePuzzle solver;
+  private List<String> lines;
+
+  @Setup
+  public void setUp() {
+    final var definition = PuzzleInputs.definition(puzzle);
+    solver = definition.newInstance();
+    lines = PuzzleInputs.load(definition, input);
+  }
+
+  @Benchmark
+  public String solve() {
+    return solver.solve(lines);
+  }
+}
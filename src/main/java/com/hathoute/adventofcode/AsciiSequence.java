@@ -0,0 +1,76 @@
+package com.hathoute.adventofcode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view over a range of ASCII bytes in a {@link ByteBuffer}, nothing is
+ * copied or decoded until {@link #toString()} is called.
+ */
+public final class AsciiSequence implements CharSequence {
+
+  private ByteBuffer buffer;
+  private int offset;
+  private int length;
+
+  public AsciiSequence(final ByteBuffer buffer, final int offset, final int length) {
+    reset(buffer, offset, length);
+  }
+
+  /**
+   * Points this view at another range, used to walk a buffer without allocating a view per line.
+   */
+  AsciiSequence reset(final ByteBuffer buffer, final int offset, final int length) {
+    if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+      throw new IndexOutOfBoundsException("Range [%d, %d) out of buffer bounds".formatted(offset,
+          offset + length));
+    }
+
+    this.buffer = buffer;
+    this.offset = offset;
+    this.length = length;
+    return this;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    return (char) byteAt(index);
+  }
+
+  public int byteAt(final int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(index);
+    }
+
+    return buffer.get(offset + index) & 0xFF;
+  }
+
+  @Override
+  public AsciiSequence subSequence(final int start, final int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException("Range [%d, %d) out of bounds".formatted(start, end));
+    }
+
+    return new AsciiSequence(buffer, offset + start, end - start);
+  }
+
+  public ByteBuffer buffer() {
+    return buffer;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  @Override
+  public String toString() {
+    final var bytes = new byte[length];
+    buffer.get(offset, bytes);
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+}
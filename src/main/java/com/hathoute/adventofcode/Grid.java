@@ -0,0 +1,192 @@
+package com.hathoute.adventofcode;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A rectangular ASCII grid stored row-major in a single {@code byte[]}, optionally surrounded by
+ * {@code padding} rows and columns of a border byte. Cells in the padding can be read like any
+ * other cell (with negative coordinates or past the end), which spares neighbour lookups from
+ * bounds checks as long as they do not reach further than the padding.
+ *
+ * <p>Cells are addressed either by (row, column) or by a flat index, moving by (dRow, dColumn)
+ * being a matter of adding {@link #offset(int, int)} to the index.
+ */
+public final class Grid {
+
+  private final byte[] cells;
+  private final int width;
+  private final int height;
+  private final int padding;
+  private final int stride;
+
+  private Grid(final byte[] cells, final int width, final int height, final int padding) {
+    this.cells = cells;
+    this.width = width;
+    this.height = height;
+    this.padding = padding;
+    this.stride = width + 2 * padding;
+  }
+
+  public static Grid parse(final List<? extends CharSequence> lines) {
+    return parse(lines, 0, (byte) 0);
+  }
+
+  public static Grid parse(final List<? extends CharSequence> lines, final int padding,
+      final byte border) {
+    if (lines.isEmpty()) {
+      throw new IllegalArgumentException("Grid needs at least one row");
+    }
+
+    final var height = lines.size();
+    final var width = lines.get(0).length();
+    final var stride = width + 2 * padding;
+    final var cells = new byte[stride * (height + 2 * padding)];
+    Arrays.fill(cells, border);
+
+    for (var row = 0; row < height; row++) {
+      final var line = lines.get(row);
+      if (line.length() != width) {
+        throw new IllegalArgumentException(
+            "Row %d has length %d, expected %d".formatted(row, line.length(), width));
+      }
+
+      final var rowStart = (row + padding) * stride + padding;
+      for (var column = 0; column < width; column++) {
+        cells[rowStart + column] = (byte) line.charAt(column);
+      }
+    }
+
+    return new Grid(cells, width, height, padding);
+  }
+
+  public int width() {
+    return width;
+  }
+
+  public int height() {
+    return height;
+  }
+
+  /**
+   * Number of cells, padding included, i.e. an upper bound of every index.
+   */
+  public int size() {
+    return cells.length;
+  }
+
+  public int index(final int row, final int column) {
+    return (row + padding) * stride + column + padding;
+  }
+
+  public int row(final int index) {
+    return index / stride - padding;
+  }
+
+  public int column(final int index) {
+    return index % stride - padding;
+  }
+
+  /**
+   * Index delta of a move by the given amount of rows and columns.
+   */
+  public int offset(final int dRow, final int dColumn) {
+    return dRow * stride + dColumn;
+  }
+
+  public byte get(final int row, final int column) {
+    return cells[index(row, column)];
+  }
+
+  public byte at(final int index) {
+    return cells[index];
+  }
+
+  public byte neighbour(final int index, final int dRow, final int dColumn) {
+    return cells[index + offset(dRow, dColumn)];
+  }
+
+  public void set(final int index, final byte value) {
+    cells[index] = value;
+  }
+
+  /**
+   * Index of the first cell (in row-major order, padding excluded) holding the value, or -1.
+   */
+  public int indexOf(final byte value) {
+    for (var row = 0; row < height; row++) {
+      final var rowStart = index(row, 0);
+      for (var i = rowStart; i < rowStart + width; i++) {
+        if (cells[i] == value) {
+          return i;
+        }
+      }
+    }
+
+    return -1;
+  }
+
+  public boolean rowMatches(final int row, final byte value) {
+    final var rowStart = index(row, 0);
+    for (var i = rowStart; i < rowStart + width; i++) {
+      if (cells[i] != value) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  public boolean columnMatches(final int column, final byte value) {
+    for (var i = index(0, column); i < index(height, column); i += stride) {
+      if (cells[i] != value) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Number of columns at which both rows differ.
+   */
+  public int rowDistance(final int row1, final int row2) {
+    final var start1 = index(row1, 0);
+    final var start2 = index(row2, 0);
+    var distance = 0;
+    for (var i = 0; i < width; i++) {
+      if (cells[start1 + i] != cells[start2 + i]) {
+        distance++;
+      }
+    }
+
+    return distance;
+  }
+
+  /**
+   * Rows become columns, the padding is kept.
+   */
+  public Grid transpose() {
+    final var transposed = new Grid(new byte[cells.length], height, width, padding);
+    for (var row = -padding; row < height + padding; row++) {
+      for (var column = -padding; column < width + padding; column++) {
+        transposed.cells[transposed.index(column, row)] = cells[index(row, column)];
+      }
+    }
+
+    return transposed;
+  }
+
+  @Override
+  public String toString() {
+    final var builder = new StringBuilder(height * (width + 1));
+    for (var row = 0; row < height; row++) {
+      for (var column = 0; column < width; column++) {
+        builder.append((char) get(row, column));
+      }
+      builder.append('\n');
+    }
+
+    return builder.toString();
+  }
+}
@@ -0,0 +1,229 @@
+package com.hathoute.adventofcode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A memory-mapped ASCII input file. Lines are exposed as {@link AsciiSequence} views over the
+ * mapped pages, so no line is ever decoded into a {@link String} unless the solver asks for it.
+ *
+ * <p>Files larger than a single mapping are split into several regions, each region ending right
+ * after a line feed so that no line straddles two regions.
+ */
+public final class MappedInput {
+
+  private static final byte LINE_FEED = '\n';
+  private static final byte CARRIAGE_RETURN = '\r';
+  private static final int MAX_REGION_SIZE = 1 << 30;
+  private static final int CHUNK_SIZE = 1 << 20;
+
+  private final List<ByteBuffer> regions;
+  private final long size;
+
+  private MappedInput(final List<ByteBuffer> regions, final long size) {
+    this.regions = regions;
+    this.size = size;
+  }
+
+  public static MappedInput map(final Path path) {
+    return map(path, MAX_REGION_SIZE);
+  }
+
+  static MappedInput map(final Path path, final int maxRegionSize) {
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final var size = channel.size();
+      final var regions = new ArrayList<ByteBuffer>();
+
+      var position = 0L;
+      while (position < size) {
+        final var regionSize = (int) Math.min(maxRegionSize, size - position);
+        final var mapped = channel.map(MapMode.READ_ONLY, position, regionSize);
+        final var end = position + regionSize == size ? regionSize : lastLineEnd(mapped);
+        if (end == 0) {
+          throw new IllegalArgumentException(
+              "Line at offset %d is longer than a mapped region".formatted(position));
+        }
+
+        regions.add(mapped.slice(0, end));
+        position += end;
+      }
+
+      return new MappedInput(List.copyOf(regions), size);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static int lastLineEnd(final ByteBuffer buffer) {
+    for (var i = buffer.limit() - 1; i >= 0; i--) {
+      if (buffer.get(i) == LINE_FEED) {
+        return i + 1;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Newline-aligned, read-only regions of the file, in order.
+   */
+  public List<ByteBuffer> regions() {
+    return regions;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Feeds every line to the consumer through a single reused view, the consumer must not keep a
+   * reference to the sequence it receives (copy it with {@code toString()} if needed).
+   */
+  public void forEachLine(final Consumer<? super CharSequence> consumer) {
+    final var view = new AsciiSequence(ByteBuffer.allocate(0), 0, 0);
+    for (final var region : regions) {
+      forEachLine(region, view, consumer);
+    }
+  }
+
+  /**
+   * Same as {@link #forEachLine(Consumer)} but restricted to a buffer, which is expected to hold
+   * whole lines (e.g. one of the {@link #regions()} or a newline-aligned slice of one).
+   */
+  public static void forEachLine(final ByteBuffer buffer, final AsciiSequence view,
+      final Consumer<? super CharSequence> consumer) {
+    var start = 0;
+    final var limit = buffer.limit();
+    while (start < limit) {
+      var end = start;
+      while (end < limit && buffer.get(end) != LINE_FEED) {
+        end++;
+      }
+
+      consumer.accept(view.reset(buffer, start, lineLength(buffer, start, end)));
+      start = end + 1;
+    }
+  }
+
+  /**
+   * Sums the value of every line. Regions are recursively split into newline-aligned chunks of
+   * about {@value #CHUNK_SIZE} bytes, summed in parallel on the common fork-join pool, so the
+   * function must be thread-safe.
+   */
+  public long parallelSum(final ToLongFunction<? super CharSequence> lineValue) {
+    var sum = 0L;
+    for (final var region : regions) {
+      sum += ForkJoinPool.commonPool().invoke(new SumTask(region, 0, region.limit(), lineValue));
+    }
+
+    return sum;
+  }
+
+  /**
+   * Lines as a stream, each element being its own (non-copying) view.
+   */
+  public Stream<CharSequence> lines() {
+    final var spliterator = Spliterators.spliteratorUnknownSize(new LineIterator(),
+        Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  private static int lineLength(final ByteBuffer buffer, final int start, final int end) {
+    return end > start && buffer.get(end - 1) == CARRIAGE_RETURN ? end - start - 1 : end - start;
+  }
+
+  private static final class SumTask extends RecursiveTask<Long> {
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+    private final ToLongFunction<? super CharSequence> lineValue;
+
+    SumTask(final ByteBuffer buffer, final int start, final int end,
+        final ToLongFunction<? super CharSequence> lineValue) {
+      this.buffer = buffer;
+      this.start = start;
+      this.end = end;
+      this.lineValue = lineValue;
+    }
+
+    @Override
+    protected Long compute() {
+      final var split = end - start > CHUNK_SIZE ? nextLineStart(start + (end - start) / 2) : end;
+      if (split >= end) {
+        return sumLines();
+      }
+
+      final var left = new SumTask(buffer, start, split, lineValue);
+      left.fork();
+      final var right = new SumTask(buffer, split, end, lineValue).compute();
+      return left.join() + right;
+    }
+
+    private int nextLineStart(final int from) {
+      for (var i = from; i < end; i++) {
+        if (buffer.get(i) == LINE_FEED) {
+          return i + 1;
+        }
+      }
+
+      return end;
+    }
+
+    private long sumLines() {
+      final var sum = new long[1];
+      final var view = new AsciiSequence(buffer, 0, 0);
+      forEachLine(buffer.slice(start, end - start), view,
+          line -> sum[0] += lineValue.applyAsLong(line));
+      return sum[0];
+    }
+  }
+
+  private final class LineIterator implements Iterator<CharSequence> {
+    private int regionIndex = 0;
+    private int position = 0;
+
+    @Override
+    public boolean hasNext() {
+      while (regionIndex < regions.size() && position >= regions.get(regionIndex).limit()) {
+        regionIndex++;
+        position = 0;
+      }
+
+      return regionIndex < regions.size();
+    }
+
+    @Override
+    public CharSequence next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      final var buffer = regions.get(regionIndex);
+      var end = position;
+      while (end < buffer.limit() && buffer.get(end) != LINE_FEED) {
+        end++;
+      }
+
+      final var line = new AsciiSequence(buffer, position, lineLength(buffer, position, end));
+      position = end + 1;
+      return line;
+    }
+  }
+}
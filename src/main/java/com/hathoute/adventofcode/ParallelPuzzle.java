@@ -0,0 +1,12 @@
+package com.hathoute.adventofcode;
+
+import java.util.List;
+
+/**
+ * A puzzle which can also split its work across the common fork-join pool, both solves giving
+ * the same answer.
+ */
+public interface ParallelPuzzle extends AdventOfCodePuzzle {
+
+  String solveParallel(List<String> input);
+}
@@ -0,0 +1,26 @@
+package com.hathoute.adventofcode;
+
+import java.util.List;
+
+/**
+ * A puzzle which parses its whole input into a model before solving, exposing both steps so that
+ * parsing can be measured apart from loading and solving.
+ *
+ * @param <T> The parsed model of the input.
+ */
+public interface ParsingPuzzle<T> extends AdventOfCodePuzzle {
+
+  T parse(List<String> input);
+
+  String solveParsed(T parsed);
+
+  @Override
+  default String solve(final List<String> input) {
+    final T parsed;
+    try (final var phase = PuzzleMetrics.phase("parse")) {
+      parsed = parse(input);
+    }
+
+    return solveParsed(parsed);
+  }
+}
@@ -0,0 +1,32 @@
+package com.hathoute.adventofcode;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link AdventOfCodePuzzle} implementation so it can be discovered by the
+ * {@link com.hathoute.adventofcode.runner.PuzzleRegistry}. Annotated classes must expose a no-arg
+ * constructor (visibility does not matter).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Puzzle {
+  int day();
+
+  int part();
+
+  /**
+   * Classpath resource holding the puzzle input, as passed to
+   * {@link PuzzleUtils#readLinesFromFile(String)}.
+   */
+  String input();
+
+  /**
+   * To be bumped whenever the solver may return a different answer for the same input, which
+   * invalidates the results cached for it by the
+   * {@link com.hathoute.adventofcode.runner.ResultCache}.
+   */
+  int version() default 1;
+}
@@ -0,0 +1,168 @@
+package com.hathoute.adventofcode;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Instrumentation for solvers: named phases (wall time, CPU time and allocated bytes) and domain
+ * event counters. Nothing is recorded unless the current thread runs inside
+ * {@link #record(Supplier)}, in which case {@link #phase(String)} and {@link #count(String, long)}
+ * boil down to a thread-local lookup.
+ *
+ * <p>CPU time and allocations are those of the recording thread plus the workers of the common
+ * fork-join pool, where parallel solves fan out to. Reports flag whether pool workers did any of
+ * that work ({@link PhaseReport#pooled()}): the pool being shared, its workers may also have run
+ * other puzzles solved concurrently (batch runs), so pooled figures are upper bounds. Work handed
+ * to any other thread is not accounted for.
+ *
+ * <p>Phases are opt-in per solver, only days 5 (parse, compute) and 8 (parse, walk) declare any.
+ */
+public final class PuzzleMetrics {
+
+  private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+  private static final Phase NO_PHASE = () -> {
+  };
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  private static final String POOL_WORKER_PREFIX = "ForkJoinPool.commonPool-worker-";
+
+  private PuzzleMetrics() {
+  }
+
+  /**
+   * Starts a phase, to be used with try-with-resources. Phases entered several times under the
+   * same name are summed.
+   */
+  public static Phase phase(final String name) {
+    final var recording = CURRENT.get();
+    return recording == null ? NO_PHASE : recording.startPhase(name);
+  }
+
+  public static void count(final String event, final long delta) {
+    final var recording = CURRENT.get();
+    if (recording != null) {
+      recording.counters.merge(event, delta, Long::sum);
+    }
+  }
+
+  public static Report record(final Supplier<String> action) {
+    if (CURRENT.get() != null) {
+      throw new IllegalStateException("Already recording on this thread");
+    }
+
+    final var recording = new Recording();
+    CURRENT.set(recording);
+    try {
+      final var total = recording.snapshot();
+      final var result = action.get();
+      final var totalReport = total.until(recording.snapshot(), "total");
+
+      final var phases = recording.phases.entrySet()
+                                         .stream()
+                                         .map(e -> e.getValue().report(e.getKey()))
+                                         .toList();
+      return new Report(result, totalReport, phases, Map.copyOf(recording.counters));
+    } finally {
+      CURRENT.remove();
+    }
+  }
+
+  public interface Phase extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /**
+   * @param pooled Whether common pool workers contributed to the CPU time and allocations.
+   */
+  public record PhaseReport(String name, long wallNanos, long cpuNanos, long allocatedBytes,
+                            boolean pooled) {
+  }
+
+  public record Report(String result, PhaseReport total, List<PhaseReport> phases,
+                       Map<String, Long> counters) {
+  }
+
+  private static final class Recording {
+    private final Map<String, Accumulator> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    Snapshot snapshot() {
+      return new Snapshot(System.nanoTime(), THREADS.getCurrentThreadCpuTime(),
+          THREADS.getCurrentThreadAllocatedBytes(), poolUsage());
+    }
+
+    Phase startPhase(final String name) {
+      final var start = snapshot();
+      return () -> {
+        final var delta = start.until(snapshot(), name);
+        phases.computeIfAbsent(name, n -> new Accumulator()).add(delta);
+      };
+    }
+  }
+
+  /**
+   * CPU time and allocated bytes of every live common pool worker, by thread id.
+   */
+  private static Map<Long, long[]> poolUsage() {
+    final var ids = Arrays.stream(THREADS.getThreadInfo(THREADS.getAllThreadIds()))
+                          .filter(Objects::nonNull)
+                          .filter(t -> t.getThreadName().startsWith(POOL_WORKER_PREFIX))
+                          .mapToLong(ThreadInfo::getThreadId)
+                          .toArray();
+    final var cpu = THREADS.getThreadCpuTime(ids);
+    final var allocated = THREADS.getThreadAllocatedBytes(ids);
+
+    final var usage = new HashMap<Long, long[]>();
+    for (var i = 0; i < ids.length; i++) {
+      usage.put(ids[i], new long[]{cpu[i], allocated[i]});
+    }
+
+    return usage;
+  }
+
+  private record Snapshot(long wallNanos, long cpuNanos, long allocatedBytes,
+                          Map<Long, long[]> pool) {
+    PhaseReport until(final Snapshot end, final String name) {
+      var cpu = end.cpuNanos - cpuNanos;
+      var allocated = end.allocatedBytes - allocatedBytes;
+      var pooled = false;
+      // Workers started meanwhile count from zero, those that retired meanwhile are lost.
+      for (final var worker : end.pool.entrySet()) {
+        final var start = pool.getOrDefault(worker.getKey(), new long[2]);
+        final var workerCpu = worker.getValue()[0] - start[0];
+        final var workerAllocated = worker.getValue()[1] - start[1];
+        pooled |= workerCpu > 0 || workerAllocated > 0;
+        cpu += workerCpu;
+        allocated += workerAllocated;
+      }
+
+      return new PhaseReport(name, end.wallNanos - wallNanos, cpu, allocated, pooled);
+    }
+  }
+
+  private static final class Accumulator {
+    private long wallNanos;
+    private long cpuNanos;
+    private long allocatedBytes;
+    private boolean pooled;
+
+    void add(final PhaseReport phase) {
+      wallNanos += phase.wallNanos();
+      cpuNanos += phase.cpuNanos();
+      allocatedBytes += phase.allocatedBytes();
+      pooled |= phase.pooled();
+    }
+
+    PhaseReport report(final String name) {
+      return new PhaseReport(name, wallNanos, cpuNanos, allocatedBytes, pooled);
+    }
+  }
+}
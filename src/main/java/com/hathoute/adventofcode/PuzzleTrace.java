@@ -0,0 +1,126 @@
+package com.hathoute.adventofcode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Debug tracing for solvers, disabled unless the {@value #PROPERTY} system property names a file
+ * to trace to. Messages are formatted by the caller then written to the file by a background
+ * thread, through a bounded queue and a buffered writer, flushed whenever the queue drains and at
+ * shutdown. Tracing never blocks solvers: messages are dropped (and counted, the count being
+ * reported at shutdown) while the queue is full, or for good once the writer failed.
+ *
+ * <p>The state is decided once at class initialization, so guarding calls with
+ * {@link #enabled()} lets the JIT remove them (and their argument boxing) altogether:
+ *
+ * <pre>
+ * if (PuzzleTrace.enabled()) {
+ *   PuzzleTrace.trace("%s -> %d", line, value);
+ * }
+ * </pre>
+ */
+public final class PuzzleTrace {
+
+  public static final String PROPERTY = "adventofcode.trace";
+
+  private static final int QUEUE_CAPACITY = 1 << 16;
+  private static final TraceWriter WRITER = start(System.getProperty(PROPERTY));
+  private static final boolean ENABLED = WRITER != null;
+
+  private PuzzleTrace() {
+  }
+
+  public static boolean enabled() {
+    return ENABLED;
+  }
+
+  public static void trace(final String format, final Object... args) {
+    if (ENABLED) {
+      WRITER.enqueue(format.formatted(args));
+    }
+  }
+
+  private static TraceWriter start(final String path) {
+    if (path == null || path.isBlank()) {
+      return null;
+    }
+
+    try {
+      final var writer = new TraceWriter(Files.newBufferedWriter(Path.of(path)));
+      final var thread = new Thread(writer, "puzzle-trace");
+      thread.setDaemon(true);
+      thread.start();
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.close(thread)));
+      return writer;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static final class TraceWriter implements Runnable {
+    // Identity-compared end marker
+    private static final String END = new String("END");
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BufferedWriter output;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean failed = false;
+
+    TraceWriter(final BufferedWriter output) {
+      this.output = output;
+    }
+
+    void enqueue(final String message) {
+      if (failed || !queue.offer(message)) {
+        dropped.increment();
+      }
+    }
+
+    @Override
+    public void run() {
+      try (output) {
+        for (var message = queue.take(); message != END; message = queue.take()) {
+          output.write(message);
+          output.newLine();
+          if (queue.isEmpty()) {
+            output.flush();
+          }
+        }
+      } catch (final IOException | RuntimeException e) {
+        failed = true;
+        System.err.println("Tracing stopped: " + e);
+      } catch (final InterruptedException e) {
+        failed = true;
+        Thread.currentThread().interrupt();
+      } finally {
+        // Nobody is left to take them, and callers no longer queue any.
+        dropped.add(queue.size());
+        queue.clear();
+      }
+    }
+
+    void close(final Thread thread) {
+      try {
+        if (!failed) {
+          queue.offer(END, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        thread.join(CLOSE_TIMEOUT_MILLIS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      final var lost = dropped.sum();
+      if (lost > 0) {
+        System.err.printf("Tracing dropped %d messages%n", lost);
+      }
+    }
+  }
+}
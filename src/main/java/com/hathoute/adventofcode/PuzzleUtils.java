@@ -1,19 +1,24 @@
 package com.hathoute.adventofcode;
 
 import static java.util.Objects.nonNull;
-import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.summingInt;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.Arrays;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterators.AbstractLongSpliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.math3.primes.Primes;
 
 public final class PuzzleUtils {
@@ -28,28 +33,145 @@ public final class PuzzleUtils {
     }
   }
 
+  /**
+   * Memory-maps a resource instead of decoding it, see {@link MappedInput}. The resource has to
+   * live on the file system (i.e. not inside a jar).
+   */
+  public static MappedInput mapFromFile(final String path) {
+    final var resource = PuzzleUtils.class.getResource(path);
+    if (resource == null) {
+      throw new IllegalArgumentException("Resource not found: " + path);
+    }
+
+    try {
+      return MappedInput.map(Path.of(resource.toURI()));
+    } catch (final URISyntaxException | FileSystemNotFoundException e) {
+      throw new IllegalArgumentException("Resource cannot be memory-mapped: " + path, e);
+    }
+  }
+
   public static boolean isNumber(final char c) {
     return c >= '0' && c <= '9';
   }
 
+  /**
+   * {@link String#indexOf(int, int)} for any {@link CharSequence}.
+   */
+  public static int indexOf(final CharSequence str, final char character, final int from) {
+    for (var i = from; i < str.length(); i++) {
+      if (str.charAt(i) == character) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * {@link String#isBlank()} for any {@link CharSequence}.
+   */
+  public static boolean isBlank(final CharSequence str) {
+    for (var i = 0; i < str.length(); i++) {
+      if (!Character.isWhitespace(str.charAt(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   public static String substringAfter(final String str, final char character) {
     return str.substring(str.indexOf(character) + 1);
   }
 
-  public static Stream<Integer> parseNumbers(final String numbers, final String separator) {
-    return parse(numbers, separator, Integer::parseInt);
+  /**
+   * Scans every integer of {@code str} into {@code buffer}, without any intermediate string. Any
+   * character that is neither a digit nor a minus sign directly preceding one is a separator.
+   *
+   * <p>Integers past the capacity of the buffer are scanned but not stored, so that callers can
+   * tell a line holding too many of them apart from one filling the buffer exactly.
+   *
+   * @return the number of integers found, more than the buffer length if some did not fit.
+   */
+  public static int parseInts(final CharSequence str, final int[] buffer) {
+    return parseInts(str, 0, str.length(), buffer);
+  }
+
+  public static int parseInts(final CharSequence str, final int from, final int to,
+      final int[] buffer) {
+    var count = 0;
+    var index = from;
+    while ((index = nextNumberStart(str, index, to)) < to) {
+      final var negative = str.charAt(index) == '-';
+      if (negative) {
+        index++;
+      }
+
+      var value = 0;
+      while (index < to && isNumber(str.charAt(index))) {
+        value = Math.addExact(Math.multiplyExact(value, 10), str.charAt(index++) - '0');
+      }
+      if (count < buffer.length) {
+        buffer[count] = negative ? -value : value;
+      }
+      count++;
+    }
+
+    return count;
+  }
+
+  /**
+   * Same as {@link #parseInts(CharSequence, int[])}, for longs.
+   */
+  public static int parseLongs(final CharSequence str, final long[] buffer) {
+    return parseLongs(str, 0, str.length(), buffer);
+  }
+
+  public static int parseLongs(final CharSequence str, final int from, final int to,
+      final long[] buffer) {
+    var count = 0;
+    var index = from;
+    while ((index = nextNumberStart(str, index, to)) < to) {
+      final var negative = str.charAt(index) == '-';
+      if (negative) {
+        index++;
+      }
+
+      var value = 0L;
+      while (index < to && isNumber(str.charAt(index))) {
+        value = Math.addExact(Math.multiplyExact(value, 10), str.charAt(index++) - '0');
+      }
+      if (count < buffer.length) {
+        buffer[count] = negative ? -value : value;
+      }
+      count++;
+    }
+
+    return count;
+  }
+
+  /**
+   * Lazily scans the integers of {@code str}, see {@link #parseInts(CharSequence, int[])}.
+   */
+  public static IntStream ints(final CharSequence str) {
+    return longs(str).mapToInt(Math::toIntExact);
   }
 
-  public static Stream<Long> parseLongs(final String numbers, final String separator) {
-    return parse(numbers, separator, Long::parseLong);
+  public static LongStream longs(final CharSequence str) {
+    return StreamSupport.longStream(new LongScanner(str), false);
   }
 
-  public static <T> Stream<T> parse(final String str, final String separator,
-      final Function<String, T> converter) {
-    return Arrays.stream(str.split(separator))
-                 .map(String::trim)
-                 .filter(not(String::isBlank))
-                 .map(converter);
+  private static int nextNumberStart(final CharSequence str, final int from, final int to) {
+    var index = from;
+    while (index < to) {
+      final var c = str.charAt(index);
+      if (isNumber(c) || (c == '-' && index + 1 < to && isNumber(str.charAt(index + 1)))) {
+        return index;
+      }
+      index++;
+    }
+
+    return to;
   }
 
   public static Map<Integer, Integer> primeFactors(final int n) {
@@ -67,6 +189,35 @@ public final class PuzzleUtils {
     return list.get(list.size() - 1);
   }
 
+  private static final class LongScanner extends AbstractLongSpliterator {
+    private final CharSequence str;
+    private final long[] value = new long[1];
+    private int index = 0;
+
+    LongScanner(final CharSequence str) {
+      super(Long.MAX_VALUE, ORDERED | NONNULL | IMMUTABLE);
+      this.str = str;
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+      final var start = nextNumberStart(str, index, str.length());
+      if (start == str.length()) {
+        index = start;
+        return false;
+      }
+
+      index = start + 1;
+      while (index < str.length() && isNumber(str.charAt(index))) {
+        index++;
+      }
+
+      parseLongs(str, start, index, value);
+      action.accept(value[0]);
+      return true;
+    }
+  }
+
   public record Tuple2<T1, T2>(T1 left, T2 right) {
     public static <V1, V2> Tuple2<V1, V2> of(final V1 v1, final V2 v2) {
       return new Tuple2<>(v1, v2);
@@ -0,0 +1,60 @@
+package com.hathoute.adventofcode;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * A puzzle whose lines can be processed one at a time, so the input never has to be fully loaded
+ * in memory. Solving is push-style: a fresh {@link LineSolver} is fed every line, then asked for
+ * the {@link LineSolver#result()}.
+ */
+public interface StreamingPuzzle extends AdventOfCodePuzzle {
+
+  LineSolver newSolver();
+
+  @Override
+  default String solve(final List<String> input) {
+    final var solver = newSolver();
+    input.forEach(solver);
+    return solver.result();
+  }
+
+  default String solve(final Stream<? extends CharSequence> input) {
+    final var solver = newSolver();
+    input.forEachOrdered(solver);
+    return solver.result();
+  }
+
+  default String solve(final MappedInput input) {
+    final var solver = newSolver();
+    input.forEachLine(solver);
+    return solver.result();
+  }
+
+  /**
+   * Lines given to {@link #accept(Object)} may be reused views (see
+   * {@link MappedInput#forEachLine(Consumer)}), implementations must not retain them.
+   */
+  interface LineSolver extends Consumer<CharSequence> {
+
+    String result();
+
+    static LineSolver summing(final ToLongFunction<CharSequence> lineValue) {
+      return new LineSolver() {
+        private long sum = 0;
+
+        @Override
+        public void accept(final CharSequence line) {
+          sum += lineValue.applyAsLong(line);
+        }
+
+        @Override
+        public String result() {
+          return String.valueOf(sum);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.hathoute.adventofcode;
+
+import java.util.List;
+
+/**
+ * A {@link StreamingPuzzle} whose answer is the sum of a value computed independently for every
+ * line. Since lines do not depend on each other, the input can be split across threads with the
+ * {@code solveParallel} methods, in which case {@link #lineValue(CharSequence)} must be
+ * thread-safe.
+ */
+public interface SummingPuzzle extends StreamingPuzzle, ParallelPuzzle {
+
+  long lineValue(CharSequence line);
+
+  @Override
+  default LineSolver newSolver() {
+    return LineSolver.summing(this::lineValue);
+  }
+
+  @Override
+  default String solveParallel(final List<String> input) {
+    return String.valueOf(input.parallelStream().mapToLong(this::lineValue).sum());
+  }
+
+  default String solveParallel(final MappedInput input) {
+    return String.valueOf(input.parallelSum(this::lineValue));
+  }
+}
@@ -1,13 +1,10 @@
 package com.hathoute.adventofcode.day1;
 
-import static java.util.Optional.of;
-import static java.util.function.Predicate.not;
-
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
+import com.hathoute.adventofcode.PuzzleTrace;
 import com.hathoute.adventofcode.PuzzleUtils;
-import java.util.List;
+import com.hathoute.adventofcode.SummingPuzzle;
 import java.util.Map;
-import java.util.Optional;
 
 public class CalibrationDocumentPart2Solution {
 
@@ -18,67 +15,33 @@ public class CalibrationDocumentPart2Solution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class CalibrationDocumentPart2 implements AdventOfCodePuzzle {
-    private static final Map<String, Character> WORD_TO_NUM = Map.of("zero", '0', "one", '1', "two",
-        '2', "three", '3', "four", '4', "five", '5', "six", '6', "seven", '7', "eight", '8', "nine",
-        '9');
+  @Puzzle(day = 1, part = 2, input = "/day1/CalibrationDocumentInput.txt")
+  static class CalibrationDocumentPart2 implements SummingPuzzle {
+    private static final Map<String, Integer> WORD_TO_NUM = Map.of("zero", 0, "one", 1, "two", 2,
+        "three", 3, "four", 4, "five", 5, "six", 6, "seven", 7, "eight", 8, "nine", 9);
 
-    @Override
-    public String solve(final List<String> inputLines) {
-      final var calibrationSum = inputLines.stream()
-                                           .filter(not(String::isBlank))
-                                           .mapToInt(this::processLine)
-                                           .sum();
+    private static final DigitAutomaton FIRST_DIGIT = DigitAutomaton.forward(WORD_TO_NUM);
+    private static final DigitAutomaton LAST_DIGIT = DigitAutomaton.reversed(WORD_TO_NUM);
 
-      return String.valueOf(calibrationSum);
+    @Override
+    public long lineValue(final CharSequence line) {
+      return PuzzleUtils.isBlank(line) ? 0 : processLine(line);
     }
 
-    private int processLine(final String line) {
-      char firstVal = '\0';
-      char secondVal = '\0';
-      var foundIndex = 0;
-
-      for (var i = 0; i < line.length(); i++) {
-        final var optChar = processCharacter(line, i);
-        if (optChar.isPresent()) {
-          firstVal = optChar.get();
-          foundIndex = i;
-          break;
-        }
-      }
-
-      // It is unnecessary to redo the first loop job, so we process the remaining substring
-      // Too lazy to do this in the first part ;-;
-      for (var i = line.length() - 1; i > foundIndex; i--) {
-        final var optChar = processCharacter(line, i);
-        if (optChar.isPresent()) {
-          secondVal = optChar.get();
-          break;
-        }
+    private int processLine(final CharSequence line) {
+      final var firstVal = FIRST_DIGIT.find(line);
+      if (firstVal == -1) {
+        throw new IllegalArgumentException("No digit in line " + line);
       }
 
-      // Nothing found in the remaining substring, use the firstValue.
-      if (secondVal == '\0') {
-        secondVal = firstVal;
-      }
+      // There is at least the first digit, so the reversed scan always finds one.
+      final var secondVal = LAST_DIGIT.find(line);
 
-      System.out.printf("%s -> %c%c%n", line, firstVal, secondVal);
-      return Integer.parseInt(String.valueOf(firstVal) + secondVal);
-    }
-
-    private Optional<Character> processCharacter(final String line, final int index) {
-      if (PuzzleUtils.isNumber(line.charAt(index))) {
-        return of(line.charAt(index));
+      if (PuzzleTrace.enabled()) {
+        PuzzleTrace.trace("%s -> %d%d", line, firstVal, secondVal);
       }
 
-      final var subStr = line.substring(index);
-      return WORD_TO_NUM.entrySet()
-                        .stream()
-                        .filter(e -> e.getKey().length() <= subStr.length())
-                        .filter(e -> subStr.startsWith(e.getKey()))
-                        .findFirst()
-                        .map(Map.Entry::getValue);
-
+      return firstVal * 10 + secondVal;
     }
   }
-}
\ No newline at end of file
+}
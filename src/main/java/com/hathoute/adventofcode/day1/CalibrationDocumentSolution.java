@@ -1,12 +1,8 @@
 package com.hathoute.adventofcode.day1;
 
-import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
-import static java.util.function.Predicate.not;
-
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
-import java.util.List;
+import com.hathoute.adventofcode.SummingPuzzle;
 
 public class CalibrationDocumentSolution {
 
@@ -17,38 +13,31 @@ public class CalibrationDocumentSolution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class CalibrationDocument implements AdventOfCodePuzzle {
+  @Puzzle(day = 1, part = 1, input = "/day1/CalibrationDocumentInput.txt")
+  static class CalibrationDocument implements SummingPuzzle {
 
     @Override
-    public String solve(final List<String> inputLines) {
-      final var calibrationSum = inputLines.stream()
-                                           .filter(not(String::isBlank))
-                                           .mapToInt(this::processLine)
-                                           .sum();
-
-      return String.valueOf(calibrationSum);
+    public long lineValue(final CharSequence line) {
+      return PuzzleUtils.isBlank(line) ? 0 : processLine(line);
     }
 
-    private int processLine(final String line) {
-      Character firstVal = null;
-      Character secondVal = null;
-      final var lineSize = line.length();
-      for (var i = 0; i < lineSize; i++) {
-        if (isNull(firstVal) && PuzzleUtils.isNumber(line.charAt(i))) {
-          firstVal = line.charAt(i);
-        }
-
-        if (isNull(secondVal) && PuzzleUtils.isNumber(line.charAt(lineSize - 1 - i))) {
-          secondVal = line.charAt(lineSize - 1 - i);
-        }
-
-        if (nonNull(firstVal) && nonNull(secondVal)) {
-          break;
-        }
+    private int processLine(final CharSequence line) {
+      var first = 0;
+      while (first < line.length() && !PuzzleUtils.isNumber(line.charAt(first))) {
+        first++;
       }
 
-      return Integer.parseInt(String.valueOf(firstVal) + secondVal);
-    }
+      if (first == line.length()) {
+        throw new IllegalArgumentException("No digit in line " + line);
+      }
 
+      // There is at least the first digit, so this stops at the latest on it.
+      var last = line.length() - 1;
+      while (!PuzzleUtils.isNumber(line.charAt(last))) {
+        last--;
+      }
+
+      return (line.charAt(first) - '0') * 10 + line.charAt(last) - '0';
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.hathoute.adventofcode.day1;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton finding the first digit of a line, be it a plain digit or one of the
+ * given spelled words. Built reversed (over reversed words), it scans lines from their end and
+ * finds the last digit instead.
+ *
+ * <p>Matches are reported as soon as a word ends, which for the digit words (none of them being
+ * a substring of another) also is the word starting first.
+ *
+ * <p>Transitions are fully computed into a flat table over the ASCII alphabet, so a scan is a
+ * table lookup per character and never allocates.
+ */
+final class DigitAutomaton {
+
+  private static final int ALPHABET = 128;
+  private static final int ROOT = 0;
+  private static final int NO_OUTPUT = -1;
+
+  private final int[] transitions;
+  private final int[] outputs;
+  private final boolean reversed;
+
+  private DigitAutomaton(final int[] transitions, final int[] outputs, final boolean reversed) {
+    this.transitions = transitions;
+    this.outputs = outputs;
+    this.reversed = reversed;
+  }
+
+  static DigitAutomaton forward(final Map<String, Integer> words) {
+    return build(words, false);
+  }
+
+  static DigitAutomaton reversed(final Map<String, Integer> words) {
+    return build(words, true);
+  }
+
+  private static DigitAutomaton build(final Map<String, Integer> words, final boolean reversed) {
+    final var maxStates = 1 + words.keySet().stream().mapToInt(String::length).sum();
+    final var transitions = new int[maxStates * ALPHABET];
+    final var outputs = new int[maxStates];
+    Arrays.fill(transitions, -1);
+    Arrays.fill(outputs, NO_OUTPUT);
+
+    // Trie of the words
+    var states = 1;
+    for (final var entry : words.entrySet()) {
+      final var word = reversed ? new StringBuilder(entry.getKey()).reverse().toString()
+          : entry.getKey();
+      var state = ROOT;
+      for (final var c : word.toCharArray()) {
+        if (c >= ALPHABET) {
+          throw new IllegalArgumentException("Non-ASCII digit word " + entry.getKey());
+        }
+
+        final var transition = state * ALPHABET + c;
+        if (transitions[transition] == -1) {
+          transitions[transition] = states++;
+        }
+        state = transitions[transition];
+      }
+      outputs[state] = entry.getValue();
+    }
+
+    // Breadth-first, missing transitions are borrowed from the failure state, which is always
+    // shallower hence already complete.
+    final var failures = new int[states];
+    final var queue = new ArrayDeque<Integer>();
+    for (var c = 0; c < ALPHABET; c++) {
+      final var child = transitions[c];
+      if (child == -1) {
+        transitions[c] = ROOT;
+      } else {
+        failures[child] = ROOT;
+        queue.add(child);
+      }
+    }
+
+    while (!queue.isEmpty()) {
+      final int state = queue.poll();
+      if (outputs[state] == NO_OUTPUT) {
+        outputs[state] = outputs[failures[state]];
+      }
+
+      for (var c = 0; c < ALPHABET; c++) {
+        final var transition = state * ALPHABET + c;
+        final var fallback = transitions[failures[state] * ALPHABET + c];
+        if (transitions[transition] == -1) {
+          transitions[transition] = fallback;
+        } else {
+          failures[transitions[transition]] = fallback;
+          queue.add(transitions[transition]);
+        }
+      }
+    }
+
+    return new DigitAutomaton(Arrays.copyOf(transitions, states * ALPHABET),
+        Arrays.copyOf(outputs, states), reversed);
+  }
+
+  /**
+   * @return The value of the first (or last if reversed) digit of the line, or -1 if none.
+   */
+  int find(final CharSequence line) {
+    final var length = line.length();
+    var state = ROOT;
+    for (var i = 0; i < length; i++) {
+      final var c = line.charAt(reversed ? length - 1 - i : i);
+      if (PuzzleUtils.isNumber(c)) {
+        return c - '0';
+      }
+
+      state = c < ALPHABET ? transitions[state * ALPHABET + c] : ROOT;
+      if (outputs[state] != NO_OUTPUT) {
+        return outputs[state];
+      }
+    }
+
+    return -1;
+  }
+}
@@ -4,12 +4,12 @@ import static java.util.List.of;
 import static java.util.function.Predicate.not;
 
 import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Grid;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
-import com.hathoute.adventofcode.PuzzleUtils.Tuple2;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
 
 public class PipeMazeSolution {
 
@@ -20,26 +20,24 @@ public class PipeMazeSolution {
     System.out.printf("Solution is: %s%n", result);
   }
 
+  @Puzzle(day = 10, part = 1, input = "/day10/PipeMaze.txt")
   static class PipeMaze implements AdventOfCodePuzzle {
 
-    private static final char START_TILE = 'S';
-    private static final char EMPTY_TILE = '.';
+    private static final byte START_TILE = 'S';
+    private static final byte EMPTY_TILE = '.';
 
     private static final Map<Character, List<Orientation>> PIPE_CONNECTIONS = Map.of('|',
         of(Orientation.NORTH, Orientation.SOUTH), '-', of(Orientation.EAST, Orientation.WEST), 'L',
         of(Orientation.NORTH, Orientation.EAST), 'J', of(Orientation.NORTH, Orientation.WEST), '7',
         of(Orientation.SOUTH, Orientation.WEST), 'F', of(Orientation.SOUTH, Orientation.EAST));
 
-    private static final Map<Orientation, Tuple2<Integer, Integer>> MOVES = Map.of(
-        Orientation.NORTH, Tuple2.of(-1, 0), Orientation.SOUTH, Tuple2.of(1, 0), Orientation.EAST,
-        Tuple2.of(0, 1), Orientation.WEST, Tuple2.of(0, -1));
-
     @Override
     public String solve(final List<String> input) {
-      final var start = findStart(input);
+      final var tiles = Grid.parse(input, 1, EMPTY_TILE);
+      final var start = tiles.indexOf(START_TILE);
       final var pipeLength = Arrays.stream(Orientation.values())
-                                   .filter(o -> isValidMove(input, start, o))
-                                   .map(o -> findLength(input, start, applyMove(start, o), o))
+                                   .filter(o -> isValidMove(tiles, start, o))
+                                   .map(o -> findLength(tiles, start, applyMove(tiles, start, o), o))
                                    .findFirst()
                                    .orElseThrow();
 
@@ -48,35 +46,21 @@ public class PipeMazeSolution {
       return String.valueOf(maxDistance);
     }
 
-    private Tuple2<Integer, Integer> findStart(final List<String> tiles) {
-      return IntStream.range(0, tiles.size())
-                      .mapToObj(i -> Tuple2.of(i, tiles.get(i).indexOf(START_TILE)))
-                      .filter(t -> t.right() != -1)
-                      .findFirst()
-                      .orElseThrow();
-    }
-
-    private boolean isValidMove(final List<String> tiles, final Tuple2<Integer, Integer> position,
-        final Orientation move) {
-      final var nextPosition = applyMove(position, move);
-      try {
-        final var nextChar = tiles.get(nextPosition.left()).charAt(nextPosition.right());
-        return nextChar != EMPTY_TILE && PIPE_CONNECTIONS.get(nextChar)
-                                                         .stream()
-                                                         .anyMatch(move.opposite()::equals);
-      } catch (final IndexOutOfBoundsException e) {
-        // We went out of the tiles, obviously not a valid move;
-        return false;
-      }
+    private boolean isValidMove(final Grid tiles, final int position, final Orientation move) {
+      // Moving out of the tiles lands on the padding, which is empty.
+      final var nextChar = tiles.at(applyMove(tiles, position, move));
+      return nextChar != EMPTY_TILE && PIPE_CONNECTIONS.getOrDefault((char) nextChar, List.of())
+                                                       .stream()
+                                                       .anyMatch(move.opposite()::equals);
     }
 
-    private long findLength(final List<String> tiles, final Tuple2<Integer, Integer> startPosition,
-        final Tuple2<Integer, Integer> currentPosition, final Orientation lastMove) {
+    private long findLength(final Grid tiles, final int startPosition, final int currentPosition,
+        final Orientation lastMove) {
       var length = 1L;
       var nextPosition = currentPosition;
       var nextMove = lastMove;
       do {
-        final var pipeType = tiles.get(nextPosition.left()).charAt(nextPosition.right());
+        final var pipeType = (char) tiles.at(nextPosition);
         // Do not go back.
         nextMove = PIPE_CONNECTIONS.get(pipeType)
                                    .stream()
@@ -84,21 +68,27 @@ public class PipeMazeSolution {
                                    .findFirst()
                                    .orElseThrow();
 
-        nextPosition = applyMove(nextPosition, nextMove);
+        nextPosition = applyMove(tiles, nextPosition, nextMove);
         ++length;
-      } while (!startPosition.equals(nextPosition));
+      } while (startPosition != nextPosition);
 
       return length;
     }
 
-    private static Tuple2<Integer, Integer> applyMove(final Tuple2<Integer, Integer> position,
-        final Orientation move) {
-      final var offset = MOVES.get(move);
-      return Tuple2.of(position.left() + offset.left(), position.right() + offset.right());
+    private static int applyMove(final Grid tiles, final int position, final Orientation move) {
+      return position + tiles.offset(move.dRow, move.dColumn);
     }
 
     enum Orientation {
-      NORTH, SOUTH, EAST, WEST;
+      NORTH(-1, 0), SOUTH(1, 0), EAST(0, 1), WEST(0, -1);
+
+      private final int dRow;
+      private final int dColumn;
+
+      Orientation(final int dRow, final int dColumn) {
+        this.dRow = dRow;
+        this.dColumn = dColumn;
+      }
 
       Orientation opposite() {
         return switch (this) {
@@ -110,4 +100,4 @@ public class PipeMazeSolution {
       }
     }
   }
-}
\ No newline at end of file
+}
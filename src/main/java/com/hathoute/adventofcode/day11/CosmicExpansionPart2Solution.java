@@ -4,6 +4,8 @@ import static java.util.stream.Collectors.toSet;
 
 import com.google.common.collect.Streams;
 import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Grid;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
 import com.hathoute.adventofcode.PuzzleUtils.Tuple2;
 import java.util.LinkedList;
@@ -21,15 +23,17 @@ public class CosmicExpansionPart2Solution {
     System.out.printf("Solution is: %s%n", result);
   }
 
+  @Puzzle(day = 11, part = 2, input = "/day11/CosmicExpansion.txt")
   static class CosmicExpansionPart2 implements AdventOfCodePuzzle {
 
-    private static final char EMPTY_SPACE = '.';
+    private static final byte EMPTY_SPACE = '.';
     private static final long EXPANSION_RATE = 1_000_000;
 
     @Override
     public String solve(final List<String> input) {
-      final var emptyRows = emptyRows(input);
-      final var glaaxies = extracted(input, emptyRows);
+      final var grid = Grid.parse(input);
+      final var emptyRows = emptyRows(grid);
+      final var glaaxies = extracted(grid, emptyRows);
       final var permutations = combinationsOfTwo(glaaxies);
 
       final var distanceSum = permutations.stream()
@@ -39,13 +43,13 @@ public class CosmicExpansionPart2Solution {
       return String.valueOf(distanceSum);
     }
 
-    private List<Tuple2<Long, Long>> extracted(final List<String> input,
+    private List<Tuple2<Long, Long>> extracted(final Grid grid,
         final Set<Integer> emptyRows) {
       final var galaxies = new LinkedList<Tuple2<Long, Long>>();
 
       var currentColumnOffset = 0L;
-      for (var column = 0; column < input.get(0).length(); column++) {
-        final var columnGalaxies = parseColumn(input, emptyRows, column, currentColumnOffset);
+      for (var column = 0; column < grid.width(); column++) {
+        final var columnGalaxies = parseColumn(grid, emptyRows, column, currentColumnOffset);
         if (columnGalaxies.isEmpty()) {
           currentColumnOffset += EXPANSION_RATE - 1;
         }
@@ -56,17 +60,17 @@ public class CosmicExpansionPart2Solution {
       return galaxies;
     }
 
-    private List<Tuple2<Long, Long>> parseColumn(final List<String> input,
+    private List<Tuple2<Long, Long>> parseColumn(final Grid grid,
         final Set<Integer> emptyRows, final int column, final long colOffset) {
       final var result = new LinkedList<Tuple2<Long, Long>>();
       var currentRowOffset = 0L;
-      for (var row = 0; row < input.size(); row++) {
+      for (var row = 0; row < grid.height(); row++) {
         if (emptyRows.contains(row)) {
           currentRowOffset += EXPANSION_RATE - 1;
           continue;
         }
 
-        if (input.get(row).charAt(column) != EMPTY_SPACE) {
+        if (grid.get(row, column) != EMPTY_SPACE) {
           result.addLast(Tuple2.of(row + currentRowOffset, column + colOffset));
         }
       }
@@ -74,9 +78,9 @@ public class CosmicExpansionPart2Solution {
       return result;
     }
 
-    private Set<Integer> emptyRows(final List<String> input) {
-      return IntStream.range(0, input.size())
-                      .filter(i -> input.get(i).chars().allMatch(c -> c == EMPTY_SPACE))
+    private Set<Integer> emptyRows(final Grid grid) {
+      return IntStream.range(0, grid.height())
+                      .filter(i -> grid.rowMatches(i, EMPTY_SPACE))
                       .boxed()
                       .collect(toSet());
 
@@ -4,6 +4,8 @@ import static java.util.stream.Collectors.toSet;
 
 import com.google.common.collect.Streams;
 import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Grid;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
 import com.hathoute.adventofcode.PuzzleUtils.Tuple2;
 import java.util.LinkedList;
@@ -21,14 +23,16 @@ public class CosmicExpansionSolution {
     System.out.printf("Solution is: %s%n", result);
   }
 
+  @Puzzle(day = 11, part = 1, input = "/day11/CosmicExpansion.txt")
   static class CosmicExpansion implements AdventOfCodePuzzle {
 
-    private static final char EMPTY_SPACE = '.';
+    private static final byte EMPTY_SPACE = '.';
 
     @Override
     public String solve(final List<String> input) {
-      final var emptyRows = emptyRows(input);
-      final var glaaxies = extracted(input, emptyRows);
+      final var grid = Grid.parse(input);
+      final var emptyRows = emptyRows(grid);
+      final var glaaxies = extracted(grid, emptyRows);
       final var permutations = combinationsOfTwo(glaaxies);
 
       final var distanceSum = permutations.stream()
@@ -38,13 +42,13 @@ public class CosmicExpansionSolution {
       return String.valueOf(distanceSum);
     }
 
-    private List<Tuple2<Integer, Integer>> extracted(final List<String> input,
+    private List<Tuple2<Integer, Integer>> extracted(final Grid grid,
         final Set<Integer> emptyRows) {
       final var galaxies = new LinkedList<Tuple2<Integer, Integer>>();
 
       var currentColumnOffset = 0;
-      for (var column = 0; column < input.get(0).length(); column++) {
-        final var columnGalaxies = parseColumn(input, emptyRows, column, currentColumnOffset);
+      for (var column = 0; column < grid.width(); column++) {
+        final var columnGalaxies = parseColumn(grid, emptyRows, column, currentColumnOffset);
         if (columnGalaxies.isEmpty()) {
           currentColumnOffset++;
         }
@@ -55,17 +59,17 @@ public class CosmicExpansionSolution {
       return galaxies;
     }
 
-    private List<Tuple2<Integer, Integer>> parseColumn(final List<String> input,
+    private List<Tuple2<Integer, Integer>> parseColumn(final Grid grid,
         final Set<Integer> emptyRows, final int column, final int colOffset) {
       final var result = new LinkedList<Tuple2<Integer, Integer>>();
       var currentRowOffset = 0;
-      for (var row = 0; row < input.size(); row++) {
+      for (var row = 0; row < grid.height(); row++) {
         if (emptyRows.contains(row)) {
           currentRowOffset++;
           continue;
         }
 
-        if (input.get(row).charAt(column) != EMPTY_SPACE) {
+        if (grid.get(row, column) != EMPTY_SPACE) {
           result.addLast(Tuple2.of(row + currentRowOffset, column + colOffset));
         }
       }
@@ -73,9 +77,9 @@ public class CosmicExpansionSolution {
       return result;
     }
 
-    private Set<Integer> emptyRows(final List<String> input) {
-      return IntStream.range(0, input.size())
-                      .filter(i -> input.get(i).chars().allMatch(c -> c == EMPTY_SPACE))
+    private Set<Integer> emptyRows(final Grid grid) {
+      return IntStream.range(0, grid.height())
+                      .filter(i -> grid.rowMatches(i, EMPTY_SPACE))
                       .boxed()
                       .collect(toSet());
 
@@ -2,9 +2,11 @@ package com.hathoute.adventofcode.day12;
 
 import static org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
+import com.hathoute.adventofcode.PuzzleMetrics;
 import com.hathoute.adventofcode.PuzzleUtils;
 import com.hathoute.adventofcode.PuzzleUtils.Either;
+import com.hathoute.adventofcode.StreamingPuzzle;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.Builder;
 
 public class HotSpringsPart2Solution {
@@ -23,7 +26,8 @@ public class HotSpringsPart2Solution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class HotSpringsPart2 implements AdventOfCodePuzzle {
+  @Puzzle(day = 12, part = 2, input = "/day12/HotSpringsInput.txt")
+  static class HotSpringsPart2 implements StreamingPuzzle {
 
     private static final char BROKEN_PIPE = '#';
     private static final char OPERATIONAL_PIPE = '.';
@@ -32,21 +36,18 @@ public class HotSpringsPart2Solution {
     private static final int REPEAT_COUNT = 5;
 
     @Override
-    public String solve(final List<String> input) {
-      final var total = input.stream().map(this::parseLine).mapToLong(this::processLine).sum();
-
-      return String.valueOf(total);
+    public LineSolver newSolver() {
+      return LineSolver.summing(line -> processLine(parseLine(line.toString())));
     }
 
     private GroupState parseLine(final String line) {
       final var splitted = line.split(" ");
-      final var numbers = PuzzleUtils.parseNumbers(splitted[1], ",").toList();
+      final var numbers = PuzzleUtils.ints(splitted[1]).toArray();
       final var repeatedText = String.join(String.valueOf(UNKNOWN_PIPE),
           Collections.nCopies(REPEAT_COUNT, splitted[0]));
-      final var repeatedNumbers = Collections.nCopies(REPEAT_COUNT, numbers)
-                                             .stream()
-                                             .flatMap(List::stream)
-                                             .toList();
+      final var repeatedNumbers = IntStream.range(0, REPEAT_COUNT * numbers.length)
+                                           .map(i -> numbers[i % numbers.length])
+                                           .toArray();
       return GroupState.builder()
                        .text(repeatedText)
                        .numbers(repeatedNumbers)
@@ -63,6 +64,7 @@ public class HotSpringsPart2Solution {
       final var possibilities = new AtomicLong(0);
 
       while (!remainings.isEmpty()) {
+        PuzzleMetrics.count("states.explored", remainings.size());
         final var nextWave = remainings.entrySet()
                                        .stream()
                                        .map(e -> state.toBuilder()
@@ -95,7 +97,7 @@ public class HotSpringsPart2Solution {
       final var currentIndex = skipToNext(state.text, state.currentTextIndex, OPERATIONAL_PIPE);
 
       if (currentIndex >= state.text.length()) {
-        return state.currentNumberIndex == state.numbers.size() ? Either.ofLeft(
+        return state.currentNumberIndex == state.numbers.length ? Either.ofLeft(
             state.possibleArrangements) : Either.ofRight(List.of());
       }
 
@@ -113,7 +115,7 @@ public class HotSpringsPart2Solution {
 
     private List<GroupState> processGroupEndingWithBrokenPipe(final GroupState state,
         final int groupStart, final int groupEnd) {
-      if (state.currentNumberIndex >= state.numbers.size()) {
+      if (state.currentNumberIndex >= state.numbers.length) {
         return List.of();
       }
 
@@ -146,11 +148,11 @@ public class HotSpringsPart2Solution {
                              spacesLeft + groupsToPut, spacesLeft))
                          .build());
 
-        if (currentNumberIndex >= state.numbers.size()) {
+        if (currentNumberIndex >= state.numbers.length) {
           break;
         }
 
-        currentSize += state.numbers.get(currentNumberIndex) + ((groupsToPut == 0) ? 0 : 1);
+        currentSize += state.numbers[currentNumberIndex] + ((groupsToPut == 0) ? 0 : 1);
         currentNumberIndex++;
       }
 
@@ -158,11 +160,11 @@ public class HotSpringsPart2Solution {
     }
 
     private List<GroupState> processBroken(final GroupState state, final int startIndex) {
-      if (state.currentNumberIndex >= state.numbers.size()) {
+      if (state.currentNumberIndex >= state.numbers.length) {
         return List.of();
       }
 
-      final var brokenConstraint = state.numbers.get(state.currentNumberIndex);
+      final var brokenConstraint = state.numbers[state.currentNumberIndex];
       var offset = 1;
       while (offset < brokenConstraint) {
         if (startIndex + offset == state.text.length()
@@ -197,7 +199,7 @@ public class HotSpringsPart2Solution {
     }
 
     @Builder(toBuilder = true)
-    record GroupState(String text, int currentTextIndex, List<Integer> numbers,
+    record GroupState(String text, int currentTextIndex, int[] numbers,
                       int currentNumberIndex, long possibleArrangements) {
       private State state() {
         return new State(currentTextIndex, currentNumberIndex);
@@ -2,9 +2,10 @@ package com.hathoute.adventofcode.day12;
 
 import static org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
 import com.hathoute.adventofcode.PuzzleUtils.Either;
+import com.hathoute.adventofcode.StreamingPuzzle;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
@@ -19,24 +20,23 @@ public class HotSpringsSolution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class HotSprings implements AdventOfCodePuzzle {
+  @Puzzle(day = 12, part = 1, input = "/day12/HotSpringsInput.txt")
+  static class HotSprings implements StreamingPuzzle {
 
     private static final char BROKEN_PIPE = '#';
     private static final char OPERATIONAL_PIPE = '.';
     private static final char UNKNOWN_PIPE = '?';
 
     @Override
-    public String solve(final List<String> input) {
-      final var total = input.stream().map(this::parseLine).mapToLong(this::processLine).sum();
-
-      return String.valueOf(total);
+    public LineSolver newSolver() {
+      return LineSolver.summing(line -> processLine(parseLine(line.toString())));
     }
 
     private GroupState parseLine(final String line) {
       final var splitted = line.split(" ");
       return GroupState.builder()
                        .text(splitted[0])
-                       .numbers(PuzzleUtils.parseNumbers(splitted[1], ",").toList())
+                       .numbers(PuzzleUtils.ints(splitted[1]).toArray())
                        .currentTextIndex(0)
                        .currentNumberIndex(0)
                        .possibleArrangements(1)
@@ -61,7 +61,7 @@ public class HotSpringsSolution {
       final var currentIndex = skipToNext(state.text, state.currentTextIndex, OPERATIONAL_PIPE);
 
       if (currentIndex >= state.text.length()) {
-        return state.currentNumberIndex == state.numbers.size() ? Either.ofLeft(
+        return state.currentNumberIndex == state.numbers.length ? Either.ofLeft(
             state.possibleArrangements) : Either.ofRight(List.of());
       }
 
@@ -79,7 +79,7 @@ public class HotSpringsSolution {
 
     private List<GroupState> processGroupEndingWithBrokenPipe(final GroupState state,
         final int groupStart, final int groupEnd) {
-      if (state.currentNumberIndex >= state.numbers.size()) {
+      if (state.currentNumberIndex >= state.numbers.length) {
         return List.of();
       }
 
@@ -112,11 +112,11 @@ public class HotSpringsSolution {
                              spacesLeft + groupsToPut, spacesLeft))
                          .build());
 
-        if (currentNumberIndex >= state.numbers.size()) {
+        if (currentNumberIndex >= state.numbers.length) {
           break;
         }
 
-        currentSize += state.numbers.get(currentNumberIndex) + ((groupsToPut == 0) ? 0 : 1);
+        currentSize += state.numbers[currentNumberIndex] + ((groupsToPut == 0) ? 0 : 1);
         currentNumberIndex++;
       }
 
@@ -124,11 +124,11 @@ public class HotSpringsSolution {
     }
 
     private List<GroupState> processBroken(final GroupState state, final int startIndex) {
-      if (state.currentNumberIndex >= state.numbers.size()) {
+      if (state.currentNumberIndex >= state.numbers.length) {
         return List.of();
       }
 
-      final var brokenConstraint = state.numbers.get(state.currentNumberIndex);
+      final var brokenConstraint = state.numbers[state.currentNumberIndex];
       var offset = 1;
       while (offset < brokenConstraint) {
         if (startIndex + offset == state.text.length()
@@ -163,7 +163,7 @@ public class HotSpringsSolution {
     }
 
     @Builder(toBuilder = true)
-    record GroupState(String text, int currentTextIndex, List<Integer> numbers,
+    record GroupState(String text, int currentTextIndex, int[] numbers,
                       int currentNumberIndex, long possibleArrangements) {
     }
   }
@@ -1,15 +1,14 @@
 package com.hathoute.adventofcode.day13;
 
 import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Grid;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
 import com.hathoute.adventofcode.PuzzleUtils.Tuple2;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import org.apache.commons.text.similarity.LevenshteinDistance;
 
 public class PointOfIncidencePart2Solution {
 
@@ -20,6 +19,7 @@ public class PointOfIncidencePart2Solution {
     System.out.printf("Solution is: %s%n", result);
   }
 
+  @Puzzle(day = 13, part = 2, input = "/day13/PointOfIncidenceInput.txt")
   static class PointOfIncidencePart2 implements AdventOfCodePuzzle {
     private static final int HORIZONTAL_MULTIPLIER = 100;
 
@@ -41,13 +41,13 @@ public class PointOfIncidencePart2Solution {
       return String.valueOf(horizontalSum + verticalSum);
     }
 
-    private List<List<String>> extractPatterns(final List<String> input) {
-      final var patterns = new LinkedList<List<String>>();
+    private List<Grid> extractPatterns(final List<String> input) {
+      final var patterns = new LinkedList<Grid>();
       var start = 0;
 
       for (var i = 0; i <= input.size(); i++) {
         if (i == input.size() || input.get(i).isBlank()) {
-          patterns.add(input.subList(start, i));
+          patterns.add(Grid.parse(input.subList(start, i)));
           start = i + 1;
         }
       }
@@ -55,20 +55,14 @@ public class PointOfIncidencePart2Solution {
       return patterns;
     }
 
-    private List<String> flipPattern(final List<String> pattern) {
-      return IntStream.range(0, pattern.get(0).length())
-                      .mapToObj(c -> pattern.stream()
-                                            .map(s -> s.charAt(c))
-                                            .map(Object::toString)
-                                            .collect(Collectors.joining()))
-                      .toList();
+    private Grid flipPattern(final Grid pattern) {
+      return pattern.transpose();
     }
 
-    private Optional<Integer> processPattern(final List<String> pattern) {
+    private Optional<Integer> processPattern(final Grid pattern) {
       final var potentialReflections = new ArrayList<Tuple2<Integer, Integer>>();
 
-      for (var currentRow = 1; currentRow < pattern.size(); currentRow++) {
-        final var currentRowPattern = pattern.get(currentRow);
+      for (var currentRow = 1; currentRow < pattern.height(); currentRow++) {
         potentialReflections.add(Tuple2.of(currentRow, 0));
 
         // Handle existing potential reflections
@@ -86,11 +80,9 @@ public class PointOfIncidencePart2Solution {
             return Optional.of(reflectionRowData.left());
           }
 
-          final var reflectedRowPattern = pattern.get(reflectedRow);
+          // Rows have the same length, the smudge is a single differing cell.
           final var totalDistance =
-              reflectionRowData.right() + LevenshteinDistance.getDefaultInstance()
-                                                             .apply(currentRowPattern,
-                                                                 reflectedRowPattern);
+              reflectionRowData.right() + pattern.rowDistance(currentRow, reflectedRow);
 
           potentialReflections.remove(reflectionIndex);
           if (totalDistance < 2) {
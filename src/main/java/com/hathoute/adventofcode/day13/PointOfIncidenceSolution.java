@@ -1,13 +1,13 @@
 package com.hathoute.adventofcode.day13;
 
 import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Grid;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class PointOfIncidenceSolution {
 
@@ -18,6 +18,7 @@ public class PointOfIncidenceSolution {
     System.out.printf("Solution is: %s%n", result);
   }
 
+  @Puzzle(day = 13, part = 1, input = "/day13/PointOfIncidenceInput.txt")
   static class PointOfIncidence implements AdventOfCodePuzzle {
     private static final int HORIZONTAL_MULTIPLIER = 100;
 
@@ -39,13 +40,13 @@ public class PointOfIncidenceSolution {
       return String.valueOf(horizontalSum + verticalSum);
     }
 
-    private List<List<String>> extractPatterns(final List<String> input) {
-      final var patterns = new LinkedList<List<String>>();
+    private List<Grid> extractPatterns(final List<String> input) {
+      final var patterns = new LinkedList<Grid>();
       var start = 0;
 
       for (var i = 0; i <= input.size(); i++) {
         if (i == input.size() || input.get(i).isBlank()) {
-          patterns.add(input.subList(start, i));
+          patterns.add(Grid.parse(input.subList(start, i)));
           start = i + 1;
         }
       }
@@ -53,20 +54,14 @@ public class PointOfIncidenceSolution {
       return patterns;
     }
 
-    private List<String> flipPattern(final List<String> pattern) {
-      return IntStream.range(0, pattern.get(0).length())
-                      .mapToObj(c -> pattern.stream()
-                                            .map(s -> s.charAt(c))
-                                            .map(Object::toString)
-                                            .collect(Collectors.joining()))
-                      .toList();
+    private Grid flipPattern(final Grid pattern) {
+      return pattern.transpose();
     }
 
-    private Optional<Integer> processPattern(final List<String> pattern) {
+    private Optional<Integer> processPattern(final Grid pattern) {
       final var potentialReflections = new ArrayList<Integer>();
 
-      for (var currentRow = 1; currentRow < pattern.size(); currentRow++) {
-        final var currentRowPattern = pattern.get(currentRow);
+      for (var currentRow = 1; currentRow < pattern.height(); currentRow++) {
         potentialReflections.add(currentRow);
 
         // Handle existing potential reflections
@@ -78,9 +73,7 @@ public class PointOfIncidenceSolution {
             return Optional.of(reflectionRow);
           }
 
-          final var reflectedRowPattern = pattern.get(reflectedRow);
-
-          if (!reflectedRowPattern.equals(currentRowPattern)) {
+          if (pattern.rowDistance(currentRow, reflectedRow) != 0) {
             potentialReflections.remove(reflectionIndex);
           } else {
             reflectionIndex++;
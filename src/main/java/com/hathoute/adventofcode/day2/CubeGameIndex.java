@@ -0,0 +1,158 @@
+package com.hathoute.adventofcode.day2;
+
+import static java.util.function.Predicate.not;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers "which games are possible with this bag?" queries against a game log parsed once.
+ *
+ * <p>A game is possible when each of its colour maxima is within the bag, so a query counts the
+ * games dominated by the bag. Maxima being small, games are bucketed in a dense table over every
+ * combination of maxima, turned into prefix sums along each colour: the bucket of the (clamped)
+ * bag then holds the count and id sum of every dominated game, making queries O(colours). Should
+ * the table be too large (unusually high counts), queries fall back to scanning all games.
+ */
+public final class CubeGameIndex {
+
+  private static final int MAX_TABLE_SIZE = 1 << 22;
+
+  private final int colours;
+  private final int[] maxValues;
+  private final int[] strides;
+  private final int[] counts;
+  private final long[] idSums;
+
+  // Linear fallback, games are (id, maxima...) tuples.
+  private final int[] games;
+
+  private CubeGameIndex(final int colours, final int[] maxValues, final int[] strides,
+      final int[] counts, final long[] idSums, final int[] games) {
+    this.colours = colours;
+    this.maxValues = maxValues;
+    this.strides = strides;
+    this.counts = counts;
+    this.idSums = idSums;
+    this.games = games;
+  }
+
+  public static CubeGameIndex build(final List<? extends CharSequence> log) {
+    final var lines = log.stream().filter(not(PuzzleUtils::isBlank)).toList();
+    final var parser = new CubeGameParser();
+    final var colours = parser.colourCount();
+    final var games = new int[lines.size() * (colours + 1)];
+    final var maxValues = new int[colours];
+
+    final var maxima = new int[colours];
+    for (var game = 0; game < lines.size(); game++) {
+      final var offset = game * (colours + 1);
+      games[offset] = parser.parse(lines.get(game), maxima);
+      for (var colour = 0; colour < colours; colour++) {
+        // A colour that never shows up fits in any bag, just like zero cubes
+        final var maximum = Math.max(0, maxima[colour]);
+        games[offset + 1 + colour] = maximum;
+        maxValues[colour] = Math.max(maxValues[colour], maximum);
+      }
+    }
+
+    final var strides = new int[colours];
+    var tableSize = 1L;
+    for (var colour = 0; colour < colours; colour++) {
+      strides[colour] = (int) tableSize;
+      // Capped so that it fits an int, the table is not built past its maximum size anyway
+      tableSize = Math.min(tableSize * (maxValues[colour] + 1L), MAX_TABLE_SIZE + 1L);
+    }
+
+    if (tableSize > MAX_TABLE_SIZE) {
+      return new CubeGameIndex(colours, maxValues, strides, null, null, games);
+    }
+
+    final var counts = new int[(int) tableSize];
+    final var idSums = new long[(int) tableSize];
+    for (var offset = 0; offset < games.length; offset += colours + 1) {
+      var cell = 0;
+      for (var colour = 0; colour < colours; colour++) {
+        cell += games[offset + 1 + colour] * strides[colour];
+      }
+      counts[cell]++;
+      idSums[cell] += games[offset];
+    }
+
+    for (var colour = 0; colour < colours; colour++) {
+      final var stride = strides[colour];
+      final var dimension = maxValues[colour] + 1;
+      for (var cell = 0; cell < counts.length; cell++) {
+        if ((cell / stride) % dimension > 0) {
+          counts[cell] += counts[cell - stride];
+          idSums[cell] += idSums[cell - stride];
+        }
+      }
+    }
+
+    return new CubeGameIndex(colours, maxValues, strides, counts, idSums, null);
+  }
+
+  /**
+   * @param bag Cubes available per colour, colours missing from the bag have none.
+   */
+  public QueryResult query(final Map<String, Integer> bag) {
+    return query(CubeGameParser.COLOURS.stream()
+                                       .mapToInt(c -> bag.getOrDefault(c, 0))
+                                       .toArray());
+  }
+
+  /**
+   * @param limits Cubes available per colour, indexed like {@link CubeGameParser#COLOURS}.
+   */
+  public QueryResult query(final int[] limits) {
+    if (limits.length != colours) {
+      throw new IllegalArgumentException(
+          "Expected %d colour limits, got %d".formatted(colours, limits.length));
+    }
+    if (Arrays.stream(limits).anyMatch(l -> l < 0)) {
+      throw new IllegalArgumentException("Negative cube count in " + Arrays.toString(limits));
+    }
+
+    if (counts == null) {
+      return scan(limits);
+    }
+
+    var cell = 0;
+    for (var colour = 0; colour < colours; colour++) {
+      cell += Math.min(limits[colour], maxValues[colour]) * strides[colour];
+    }
+
+    return new QueryResult(counts[cell], idSums[cell]);
+  }
+
+  /**
+   * Answers every bag, in parallel. Results are in the order of the bags.
+   */
+  public List<QueryResult> queryAll(final List<Map<String, Integer>> bags) {
+    return bags.parallelStream().map(this::query).toList();
+  }
+
+  private QueryResult scan(final int[] limits) {
+    var count = 0;
+    var idSum = 0L;
+    for (var offset = 0; offset < games.length; offset += colours + 1) {
+      var possible = true;
+      for (var colour = 0; colour < colours && possible; colour++) {
+        possible = games[offset + 1 + colour] <= limits[colour];
+      }
+
+      if (possible) {
+        count++;
+        idSum += games[offset];
+      }
+    }
+
+    return new QueryResult(count, idSum);
+  }
+
+  public record QueryResult(int count, long idSum) {
+  }
+}
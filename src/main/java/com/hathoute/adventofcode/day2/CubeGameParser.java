@@ -0,0 +1,133 @@
+package com.hathoute.adventofcode.day2;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Single pass parser of a game line into the maximum count shown of every colour, colours being
+ * interned up front to their index in the vocabulary. Rounds are irrelevant to both parts once
+ * maxima are known, so they are not kept.
+ *
+ * <p>A strict parser rejects colours outside its vocabulary, a lenient one only flags the game
+ * (see {@link #hasUnknownColours()}).
+ */
+final class CubeGameParser {
+
+  static final List<String> COLOURS = List.of("red", "green", "blue");
+
+  /**
+   * Maximum of a colour never shown during the game.
+   */
+  static final int ABSENT = -1;
+
+  private static final int ID_START = "Game ".length();
+
+  private static final int UNKNOWN = -1;
+
+  private final char[][] colours;
+  private final boolean strict;
+  private boolean unknownColours = false;
+
+  CubeGameParser() {
+    this(COLOURS, true);
+  }
+
+  CubeGameParser(final List<String> colours, final boolean strict) {
+    this.colours = colours.stream()
+                          .map(c -> c.toLowerCase(Locale.ROOT).toCharArray())
+                          .toArray(char[][]::new);
+    this.strict = strict;
+  }
+
+  int colourCount() {
+    return colours.length;
+  }
+
+  /**
+   * @return Whether the last game parsed showed colours outside the vocabulary.
+   */
+  boolean hasUnknownColours() {
+    return unknownColours;
+  }
+
+  /**
+   * Fills {@code maxima} (indexed like the vocabulary) with the maximum count of every colour,
+   * {@link #ABSENT} for colours that never show up.
+   *
+   * @return The game id.
+   * @throws IllegalArgumentException On a colour outside the vocabulary, if strict.
+   */
+  int parse(final CharSequence line, final int[] maxima) {
+    Arrays.fill(maxima, ABSENT);
+    unknownColours = false;
+
+    var index = ID_START;
+    var gameId = 0;
+    while (index < line.length() && PuzzleUtils.isNumber(line.charAt(index))) {
+      gameId = gameId * 10 + line.charAt(index++) - '0';
+    }
+
+    final var length = line.length();
+    while (true) {
+      while (index < length && !PuzzleUtils.isNumber(line.charAt(index))) {
+        index++;
+      }
+      if (index >= length) {
+        return gameId;
+      }
+
+      var count = 0;
+      while (index < length && PuzzleUtils.isNumber(line.charAt(index))) {
+        count = count * 10 + line.charAt(index++) - '0';
+      }
+      while (index < length && line.charAt(index) == ' ') {
+        index++;
+      }
+
+      final var colourStart = index;
+      while (index < length && Character.isLetter(line.charAt(index))) {
+        index++;
+      }
+
+      final var colour = colourIndex(line, colourStart, index);
+      if (colour == UNKNOWN) {
+        unknownColours = true;
+      } else {
+        maxima[colour] = Math.max(maxima[colour], count);
+      }
+    }
+  }
+
+  private int colourIndex(final CharSequence line, final int start, final int end) {
+    for (var colour = 0; colour < colours.length; colour++) {
+      if (matches(colours[colour], line, start, end)) {
+        return colour;
+      }
+    }
+
+    if (strict) {
+      throw new IllegalArgumentException(
+          "Unknown colour " + line.subSequence(start, end) + " in " + line);
+    }
+
+    return UNKNOWN;
+  }
+
+  private static boolean matches(final char[] colour, final CharSequence line, final int start,
+      final int end) {
+    if (colour.length != end - start) {
+      return false;
+    }
+
+    for (var i = 0; i < colour.length; i++) {
+      // Colours are matched case-insensitively
+      if (Character.toLowerCase(line.charAt(start + i)) != colour[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
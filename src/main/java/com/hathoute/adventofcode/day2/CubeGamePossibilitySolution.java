@@ -1,73 +1,65 @@
 package com.hathoute.adventofcode.day2;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
-import java.util.Arrays;
+import com.hathoute.adventofcode.StreamingPuzzle;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class CubeGamePossibilitySolution {
 
   public static void main(final String[] args) {
-    final var configuration = Map.of("red", 12, "green", 13, "blue", 14);
     final var inputLines = PuzzleUtils.readLinesFromFile("/day2/CubeGamePossibilityInput.txt");
 
-    final var cubeGame = new CubeGamePossibility(configuration);
+    final var cubeGame = new CubeGamePossibility();
     final var solution = cubeGame.solve(inputLines);
 
     System.out.printf("Solution is %s%n", solution);
   }
 
-  static class CubeGamePossibility implements AdventOfCodePuzzle {
+  @Puzzle(day = 2, part = 1, input = "/day2/CubeGamePossibilityInput.txt")
+  static class CubeGamePossibility implements StreamingPuzzle {
+    private static final Map<String, Integer> DEFAULT_CONFIGURATION = Map.of("red", 12, "green",
+        13, "blue", 14);
+
     private final Map<String, Integer> configuration;
 
+    public CubeGamePossibility() {
+      this(DEFAULT_CONFIGURATION);
+    }
+
     public CubeGamePossibility(final Map<String, Integer> configuration) {
       this.configuration = configuration;
     }
 
+    /**
+     * Games are parsed against the colours of the configuration, a game showing any other colour
+     * is impossible.
+     */
     @Override
-    public String solve(final List<String> input) {
-      final var gameIdSum = input.stream()
-                                 .map(CubeGamePossibility::parseGame)
-                                 .filter(this::isGameValid)
-                                 .mapToInt(CubeGame::id)
-                                 .sum();
-
-      return String.valueOf(gameIdSum);
-    }
-
-    private boolean isGameValid(final CubeGame game) {
-      return game.rounds().stream().allMatch(this::isRoundValid);
+    public LineSolver newSolver() {
+      final var colours = List.copyOf(configuration.keySet());
+      final var limits = colours.stream().mapToInt(configuration::get).toArray();
+      final var parser = new CubeGameParser(colours, false);
+      final var maxima = new int[parser.colourCount()];
+      return LineSolver.summing(line -> {
+        if (PuzzleUtils.isBlank(line)) {
+          return 0;
+        }
+
+        final var gameId = parser.parse(line, maxima);
+        return !parser.hasUnknownColours() && isGameValid(maxima, limits) ? gameId : 0;
+      });
     }
 
-    private boolean isRoundValid(final Map<String, Integer> round) {
-      return round.entrySet()
-                  .stream()
-                  .allMatch(e -> configuration.containsKey(e.getKey())
-                      && e.getValue() <= configuration.get(e.getKey()));
-    }
-
-    private static CubeGame parseGame(final String line) {
-      final var indexOf = line.indexOf(':');
-      final var gameId = Integer.parseInt(line.substring(5, indexOf)); // 5 = "Game ".length();
-      final var rounds = Arrays.stream(line.substring(indexOf + 2).split(";"))
-                               .map(CubeGamePossibility::parseRound)
-                               .toList();
-
-      return new CubeGame(gameId, rounds);
-    }
-
-    private static Map<String, Integer> parseRound(final String round) {
-      // toLowerCase() probably not needed, but better safe than sorry
-      return Arrays.stream(round.split(","))
-                   .map(String::trim)
-                   .map(entry -> entry.split(" "))
-                   .collect(Collectors.toMap(spl -> spl[1].toLowerCase(),
-                       spl -> Integer.parseInt(spl[0])));
-    }
+    private static boolean isGameValid(final int[] maxima, final int[] limits) {
+      for (var colour = 0; colour < maxima.length; colour++) {
+        if (maxima[colour] > limits[colour]) {
+          return false;
+        }
+      }
 
-    record CubeGame(int id, List<Map<String, Integer>> rounds) {
+      return true;
     }
   }
 
@@ -1,12 +1,10 @@
 package com.hathoute.adventofcode.day3;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.ParallelPuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
-import java.util.ArrayList;
+import com.hathoute.adventofcode.StreamingPuzzle;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 public class GearRatiosPart2Solution {
   public static void main(final String[] args) {
@@ -18,91 +16,87 @@ public class GearRatiosPart2Solution {
     System.out.printf("Result is: %s%n", result);
   }
 
-  static class GearRatios implements AdventOfCodePuzzle {
+  @Puzzle(day = 3, part = 2, input = "/day3/GearRatiosInput.txt")
+  static class GearRatios implements StreamingPuzzle, ParallelPuzzle {
+
+    private static final byte GEAR = '*';
 
     @Override
-    public String solve(final List<String> input) {
-      final var adjacentSum = IntStream.range(0, input.size())
-                                       .mapToObj(e -> processLine(input, e))
-                                       .flatMapToInt(e -> e.stream().mapToInt(Integer::intValue))
-                                       .sum();
+    public LineSolver newSolver() {
+      return SchematicWindow.summingRows(GearRatios::processRow);
+    }
 
-      return String.valueOf(adjacentSum);
+    @Override
+    public String solveParallel(final List<String> input) {
+      return String.valueOf(SchematicWindow.parallelSum(input, GearRatios::processRow));
     }
 
-    private List<Integer> processLine(final List<String> input, final int line) {
-      final var integerList = new ArrayList<Integer>();
+    static long processRow(final SchematicWindow window) {
+      var sum = 0L;
 
-      final var lineStr = input.get(line);
-      for (int i = 0; i < lineStr.length(); i++) {
-        if (lineStr.charAt(i) != '*') {
-          continue;
+      for (var column = 0; column < window.width(); column++) {
+        if (window.get(0, column) == GEAR) {
+          sum += gearRatio(window, column);
         }
-
-        final var envelope = buildEnvelope(input, line, i);
-        if (envelope.size() != 2) {
-          continue;
-        }
-
-        integerList.add(envelope.get(0) * envelope.get(1));
       }
 
-      return integerList;
+      return sum;
     }
 
-    private static List<Integer> buildEnvelope(final List<String> matrix, final int line, final int index) {
-      final var numberEnvelope = new ArrayList<Integer>();
-      final var lineStr = matrix.get(line);
-
-      // If the character just above (or below) is part of a number, then there is no need to check the ones at the
-      //  diagonal since they should be part of this same number.
-      // We leave handling edge cases to the extractNumber method, so we don't end up with spaghetti.
-      if (line > 0) {
-        final var currentLine = matrix.get(line - 1);
-        extractNumber(currentLine, index).map(n -> Stream.of(Optional.of(n)))
-                                         .orElseGet(
-                                             () -> Stream.of(extractNumber(currentLine, index - 1),
-                                                 extractNumber(currentLine, index + 1)))
-                                         .flatMap(Optional::stream)
-                                         .forEach(numberEnvelope::add);
-      }
-      if (line < matrix.size() - 1) {
-        final var currentLine = matrix.get(line + 1);
-        extractNumber(currentLine, index).map(n -> Stream.of(Optional.of(n)))
-                                         .orElseGet(
-                                             () -> Stream.of(extractNumber(currentLine, index - 1),
-                                                 extractNumber(currentLine, index + 1)))
-                                         .flatMap(Optional::stream)
-                                         .forEach(numberEnvelope::add);
-      }
+    /**
+     * @return The product of the two numbers around the gear, or 0 if there are not exactly two.
+     */
+    private static long gearRatio(final SchematicWindow window, final int column) {
+      var count = 0;
+      var product = 1L;
+
+      // If the character just above (or below) is part of a number, then there is no need to
+      //  check the ones at the diagonal since they should be part of this same number.
+      for (var dRow = -1; dRow <= 1; dRow++) {
+        final var middle = dRow == 0 ? -1 : extractNumber(window, dRow, column);
+        if (middle >= 0) {
+          count++;
+          product *= middle;
+          continue;
+        }
 
-      Stream.of(extractNumber(lineStr, index + 1), extractNumber(lineStr, index - 1))
-            .flatMap(Optional::stream)
-            .forEach(numberEnvelope::add);
+        for (var side = column - 1; side <= column + 1; side += 2) {
+          final var number = extractNumber(window, dRow, side);
+          if (number >= 0) {
+            count++;
+            product *= number;
+          }
+        }
+      }
 
-      return numberEnvelope;
+      return count == 2 ? product : 0;
     }
 
-    private static Optional<Integer> extractNumber(final String str, final int index) {
-      if (index < 0 || index >= str.length()) {
-        return Optional.empty();
+    /**
+     * @return The number going through the cell, or -1 if the cell is not a digit.
+     */
+    private static int extractNumber(final SchematicWindow window, final int dRow,
+        final int column) {
+      if (!isNumber(window.get(dRow, column))) {
+        return -1;
       }
 
-      if (!PuzzleUtils.isNumber(str.charAt(index))) {
-        return Optional.empty();
-      }
-
-      var start = index;
-      var end = index + 1;
-      while (start > 0 && PuzzleUtils.isNumber(str.charAt(start - 1))) {
+      // Padding cells are never digits, hence no bounds checks.
+      var start = column;
+      while (isNumber(window.get(dRow, start - 1))) {
         --start;
       }
 
-      while (end < str.length() && PuzzleUtils.isNumber(str.charAt(end))) {
-        ++end;
+      var number = 0;
+      for (var i = start; isNumber(window.get(dRow, i)); i++) {
+        number = number * 10 + window.get(dRow, i) - '0';
       }
 
-      return Optional.of(Integer.valueOf(str.substring(start, end)));
+      return number;
+    }
+
+    private static boolean isNumber(final byte cell) {
+      return PuzzleUtils.isNumber((char) cell);
     }
   }
 }
@@ -1,10 +1,10 @@
 package com.hathoute.adventofcode.day3;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.ParallelPuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
-import java.util.ArrayList;
+import com.hathoute.adventofcode.StreamingPuzzle;
 import java.util.List;
-import java.util.stream.IntStream;
 
 public class GearRatiosSolution {
   public static void main(final String[] args) {
@@ -16,66 +16,61 @@ public class GearRatiosSolution {
     System.out.printf("Result is: %s%n", result);
   }
 
-  static class GearRatios implements AdventOfCodePuzzle {
+  @Puzzle(day = 3, part = 1, input = "/day3/GearRatiosInput.txt")
+  static class GearRatios implements StreamingPuzzle, ParallelPuzzle {
 
     @Override
-    public String solve(final List<String> input) {
-      final var adjacentSum = IntStream.range(0, input.size())
-                                       .mapToObj(e -> processLine(input, e))
-                                       .flatMapToInt(e -> e.stream().mapToInt(Integer::intValue))
-                                       .sum();
+    public LineSolver newSolver() {
+      return SchematicWindow.summingRows(GearRatios::processRow);
+    }
 
-      return String.valueOf(adjacentSum);
+    @Override
+    public String solveParallel(final List<String> input) {
+      return String.valueOf(SchematicWindow.parallelSum(input, GearRatios::processRow));
     }
 
-    private List<Integer> processLine(final List<String> input, final int line) {
-      final var integerList = new ArrayList<Integer>();
+    static long processRow(final SchematicWindow window) {
+      var sum = 0L;
 
-      var start = 0;
-      var index = 0;
-      final var lineStr = input.get(line);
-      while (index <= lineStr.length()) {
-        if (index < lineStr.length() && PuzzleUtils.isNumber(lineStr.charAt(index))) {
-          index++;
+      var column = 0;
+      while (column < window.width()) {
+        if (!isNumber(window.get(0, column))) {
+          column++;
           continue;
         }
 
-        if (start < index) {
-          final var envelope = buildEnvelope(input, line, start, index);
-          final var hasSymbol = envelope.chars()
-                                        .anyMatch(e -> !PuzzleUtils.isNumber((char) e) && e != '.');
-          if (hasSymbol) {
-            integerList.add(Integer.valueOf(lineStr.substring(start, index)));
-          }
+        final var start = column;
+        var number = 0;
+        // The padding column ends numbers touching the right edge.
+        while (isNumber(window.get(0, column))) {
+          number = number * 10 + window.get(0, column) - '0';
+          column++;
         }
 
-        ++index;
-        start = index;
+        if (hasAdjacentSymbol(window, start, column)) {
+          sum += number;
+        }
       }
 
-      return integerList;
+      return sum;
     }
 
-    private static String buildEnvelope(final List<String> matrix, final int line, final int start, final int end) {
-      final var builder = new StringBuilder();
-      final var absStart = Math.max(0, start - 1);
-      final var absEnd = Math.min(matrix.get(0).length(), end + 1);
-
-      if (line > 0) {
-        builder.append(matrix.get(line - 1), absStart, absEnd);
-      }
-      if (line < matrix.size() - 1) {
-        builder.append(matrix.get(line + 1), absStart, absEnd);
+    private static boolean hasAdjacentSymbol(final SchematicWindow window, final int start,
+        final int end) {
+      for (var dRow = -1; dRow <= 1; dRow++) {
+        for (var column = start - 1; column <= end; column++) {
+          final var cell = window.get(dRow, column);
+          if (cell != SchematicWindow.EMPTY && !isNumber(cell)) {
+            return true;
+          }
+        }
       }
 
-      if (start != absStart) {
-        builder.append(matrix.get(line).charAt(absStart));
-      }
-      if (end != absEnd) {
-        builder.append(matrix.get(line).charAt(end));
-      }
+      return false;
+    }
 
-      return builder.toString();
+    private static boolean isNumber(final byte cell) {
+      return PuzzleUtils.isNumber((char) cell);
     }
   }
 }
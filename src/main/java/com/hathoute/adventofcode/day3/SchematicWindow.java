@@ -0,0 +1,179 @@
+package com.hathoute.adventofcode.day3;
+
+import com.hathoute.adventofcode.StreamingPuzzle.LineSolver;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToLongFunction;
+
+/**
+ * Rolling window over three consecutive rows of a schematic (previous, current and next), so that
+ * rows can be processed as they are streamed in O(width) memory. Rows are stored with one empty
+ * cell of padding on both sides, and rows above the first or below the last one are empty, so
+ * every cell around the current row can be read without bounds checks.
+ */
+final class SchematicWindow {
+
+  static final byte EMPTY = '.';
+
+  private static final int PREVIOUS = 0;
+  private static final int CURRENT = 1;
+  private static final int NEXT = 2;
+  private static final int BAND_ROWS = 4096;
+
+  private final byte[][] rows = new byte[3][];
+  private int width = -1;
+  private int pushed = 0;
+  private boolean flushed = false;
+
+  /**
+   * Streams rows through a window, summing the value of each row once it is the current one.
+   */
+  static LineSolver summingRows(final ToLongFunction<SchematicWindow> rowValue) {
+    final var window = new SchematicWindow();
+    return new LineSolver() {
+      private long sum = 0;
+
+      @Override
+      public void accept(final CharSequence line) {
+        if (window.push(line)) {
+          sum += rowValue.applyAsLong(window);
+        }
+      }
+
+      @Override
+      public String result() {
+        if (window.flush()) {
+          sum += rowValue.applyAsLong(window);
+        }
+        return String.valueOf(sum);
+      }
+    };
+  }
+
+  /**
+   * Sums the value of every row, splitting the schematic into bands of rows summed in parallel on
+   * the common fork-join pool. Each band reads one row of halo above and below, but only values
+   * its own rows, so nothing is counted twice.
+   */
+  static long parallelSum(final List<? extends CharSequence> rows,
+      final ToLongFunction<SchematicWindow> rowValue) {
+    if (rows.isEmpty()) {
+      return 0;
+    }
+
+    return ForkJoinPool.commonPool().invoke(new BandTask(rows, 0, rows.size(), rowValue));
+  }
+
+  /**
+   * Slides the window down by a row, the line becoming the next row.
+   *
+   * @return Whether the current row is now a schematic row to be processed, i.e. at least two
+   *     rows have been pushed.
+   */
+  boolean push(final CharSequence line) {
+    if (width == -1) {
+      width = line.length();
+      for (var i = 0; i < rows.length; i++) {
+        rows[i] = new byte[width + 2];
+        Arrays.fill(rows[i], EMPTY);
+      }
+    } else if (line.length() != width) {
+      throw new IllegalArgumentException(
+          "Row has length %d, expected %d".formatted(line.length(), width));
+    }
+
+    final var next = slide();
+    for (var column = 0; column < width; column++) {
+      next[column + 1] = (byte) line.charAt(column);
+    }
+
+    return ++pushed >= 2;
+  }
+
+  /**
+   * Slides past the last row, with an empty row below it.
+   *
+   * @return Whether the current row is now the last schematic row, to be processed.
+   */
+  boolean flush() {
+    if (flushed || pushed == 0) {
+      return false;
+    }
+
+    flushed = true;
+    Arrays.fill(slide(), EMPTY);
+    return true;
+  }
+
+  int width() {
+    return width;
+  }
+
+  /**
+   * @param dRow    Row relative to the current one, from -1 to 1.
+   * @param column  Column from -1 to {@link #width()} included.
+   */
+  byte get(final int dRow, final int column) {
+    return rows[CURRENT + dRow][column + 1];
+  }
+
+  private byte[] slide() {
+    final var recycled = rows[PREVIOUS];
+    rows[PREVIOUS] = rows[CURRENT];
+    rows[CURRENT] = rows[NEXT];
+    rows[NEXT] = recycled;
+    return recycled;
+  }
+
+  private static final class BandTask extends RecursiveTask<Long> {
+    private final List<? extends CharSequence> rows;
+    private final int start;
+    private final int end;
+    private final ToLongFunction<SchematicWindow> rowValue;
+
+    BandTask(final List<? extends CharSequence> rows, final int start, final int end,
+        final ToLongFunction<SchematicWindow> rowValue) {
+      this.rows = rows;
+      this.start = start;
+      this.end = end;
+      this.rowValue = rowValue;
+    }
+
+    @Override
+    protected Long compute() {
+      if (end - start <= BAND_ROWS) {
+        return sumBand();
+      }
+
+      final var middle = start + (end - start) / 2;
+      final var upper = new BandTask(rows, start, middle, rowValue);
+      upper.fork();
+      final var lower = new BandTask(rows, middle, end, rowValue).compute();
+      return upper.join() + lower;
+    }
+
+    private long sumBand() {
+      final var window = new SchematicWindow();
+      // Without a halo above, the window starts on an empty row just the same.
+      if (start > 0) {
+        window.push(rows.get(start - 1));
+      }
+      window.push(rows.get(start));
+
+      var sum = 0L;
+      for (var row = start + 1; row < end; row++) {
+        window.push(rows.get(row));
+        sum += rowValue.applyAsLong(window);
+      }
+
+      if (end < rows.size()) {
+        window.push(rows.get(end));
+      } else {
+        window.flush();
+      }
+      return sum + rowValue.applyAsLong(window);
+    }
+  }
+}
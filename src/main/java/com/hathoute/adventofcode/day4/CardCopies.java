@@ -0,0 +1,57 @@
+package com.hathoute.adventofcode.day4;
+
+/**
+ * Counts scratchcard instances as cards go by, in O(1) per card. Copies won by a card are spread
+ * over the following cards through a difference array: the copies are added where the run starts
+ * and removed right after it ends, so a running sum gives the pending copies of the current card.
+ * Only the next {@code matches + 1} entries can be pending, so the array is a ring sized by the
+ * largest match count seen rather than by the number of cards.
+ */
+final class CardCopies {
+
+  private long[] deltas = new long[2];
+  private int current = 0;
+  private long pending = 0;
+  private long total = 0;
+
+  /**
+   * Accounts for the next card, winning copies of the {@code matches} cards that follow it.
+   * Copies of cards past the end of the table are never claimed, so they are simply dropped.
+   */
+  void add(final int matches) {
+    ensureCapacity(matches + 2);
+
+    pending += deltas[current];
+    deltas[current] = 0;
+    final var instances = Math.incrementExact(pending);
+    total = Math.addExact(total, instances);
+
+    if (matches > 0) {
+      deltas[slot(1)] += instances;
+      deltas[slot(matches + 1)] -= instances;
+    }
+    current = slot(1);
+  }
+
+  long total() {
+    return total;
+  }
+
+  private int slot(final int offset) {
+    return (current + offset) % deltas.length;
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity <= deltas.length) {
+      return;
+    }
+
+    // Unrolls the ring so that the current card lands back on the first slot.
+    final var grown = new long[Math.max(capacity, 2 * deltas.length)];
+    final var head = deltas.length - current;
+    System.arraycopy(deltas, current, grown, 0, head);
+    System.arraycopy(deltas, 0, grown, head, current);
+    deltas = grown;
+    current = 0;
+  }
+}
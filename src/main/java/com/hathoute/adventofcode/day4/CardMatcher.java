@@ -0,0 +1,85 @@
+package com.hathoute.adventofcode.day4;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.util.Arrays;
+
+/**
+ * Counts the winning numbers of a card by parsing both sides straight into bitsets and
+ * intersecting them. Numbers below {@value #NARROW_LIMIT} (all of them on actual cards) live in
+ * two longs, larger ones spill into a growable word array that is reused from card to card.
+ *
+ * <p>Numbers are matched as sets, a number appearing twice on the same side counts once.
+ */
+final class CardMatcher {
+
+  private static final int NARROW_LIMIT = 128;
+
+  private final NumberSet winning = new NumberSet();
+  private final NumberSet player = new NumberSet();
+
+  int matches(final CharSequence line) {
+    winning.clear();
+    player.clear();
+
+    final var length = line.length();
+    var index = PuzzleUtils.indexOf(line, ':', 0) + 1;
+    var side = winning;
+    while (index < length) {
+      final var c = line.charAt(index);
+      if (!PuzzleUtils.isNumber(c)) {
+        if (c == '|') {
+          side = player;
+        }
+        index++;
+        continue;
+      }
+
+      var number = 0;
+      while (index < length && PuzzleUtils.isNumber(line.charAt(index))) {
+        number = Math.addExact(Math.multiplyExact(number, 10), line.charAt(index++) - '0');
+      }
+      side.add(number);
+    }
+
+    return winning.intersectionSize(player);
+  }
+
+  private static final class NumberSet {
+    private long low;
+    private long high;
+    private long[] wide = new long[0];
+    private int wideWords;
+
+    void clear() {
+      low = 0;
+      high = 0;
+      Arrays.fill(wide, 0, wideWords, 0);
+      wideWords = 0;
+    }
+
+    void add(final int number) {
+      if (number < 64) {
+        low |= 1L << number;
+      } else if (number < NARROW_LIMIT) {
+        high |= 1L << number;
+      } else {
+        final var word = (number - NARROW_LIMIT) >>> 6;
+        if (word >= wide.length) {
+          wide = Arrays.copyOf(wide, Math.max(word + 1, 2 * wide.length));
+        }
+        // Shifts only use the low 6 bits of the number, i.e. its position within the word.
+        wide[word] |= 1L << number;
+        wideWords = Math.max(wideWords, word + 1);
+      }
+    }
+
+    int intersectionSize(final NumberSet other) {
+      var size = Long.bitCount(low & other.low) + Long.bitCount(high & other.high);
+      for (var word = 0; word < Math.min(wideWords, other.wideWords); word++) {
+        size += Long.bitCount(wide[word] & other.wide[word]);
+      }
+
+      return size;
+    }
+  }
+}
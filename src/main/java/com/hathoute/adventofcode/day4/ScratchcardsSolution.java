@@ -1,13 +1,8 @@
 package com.hathoute.adventofcode.day4;
 
-import static com.hathoute.adventofcode.PuzzleUtils.parseNumbers;
-import static com.hathoute.adventofcode.PuzzleUtils.substringAfter;
-
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import com.hathoute.adventofcode.StreamingPuzzle;
 
 public class ScratchcardsSolution {
   public static void main(final String[] args) {
@@ -18,31 +13,16 @@ public class ScratchcardsSolution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class Scratchcards implements AdventOfCodePuzzle {
+  @Puzzle(day = 4, part = 1, input = "/day4/ScratchcardsInput.txt")
+  static class Scratchcards implements StreamingPuzzle {
 
     @Override
-    public String solve(final List<String> input) {
-      final var userScore = input.stream()
-                                 .map(Scratchcards::parseGame)
-                                 .map(this::getGameScore)
-                                 .filter(i -> i > 0)
-                                 .mapToInt(s -> (int) Math.pow(2, s - 1))
-                                 .sum();
-
-      return String.valueOf(userScore);
-    }
-
-    private long getGameScore(final Game game) {
-      return game.playerNumbers.stream().filter(game.winningNumbers::contains).count();
-    }
-
-    private static Game parseGame(final String line) {
-      final var numbers = substringAfter(line, ':').split("\\|");
-      return new Game(parseNumbers(numbers[0], " ").collect(Collectors.toSet()),
-          parseNumbers(numbers[1], " ").collect(Collectors.toSet()));
-    }
-
-    record Game(Set<Integer> winningNumbers, Set<Integer> playerNumbers) {
+    public LineSolver newSolver() {
+      final var matcher = new CardMatcher();
+      return LineSolver.summing(line -> {
+        final var matches = matcher.matches(line);
+        return matches > 0 ? 1L << (matches - 1) : 0;
+      });
     }
   }
 }
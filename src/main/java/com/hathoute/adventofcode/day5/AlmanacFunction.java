@@ -0,0 +1,246 @@
+package com.hathoute.adventofcode.day5;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Almanac map, or chain of maps, compiled into a piecewise-linear function over non-negative
+ * numbers. Every piece shifts its keys by a constant offset, pieces are sorted by their first key
+ * and stored as parallel arrays; piece {@code i} covers {@code [starts[i], starts[i + 1])}, the
+ * last one extends to infinity. Numbers left unmapped are pieces of offset 0.
+ *
+ * <p>Chaining two functions only splits pieces where the image of one crosses a piece boundary of
+ * the next, so a whole chain compiles to a single function evaluated with one binary search.
+ */
+final class AlmanacFunction {
+
+  private static final Pattern FROM_TO_PATTERN = Pattern.compile("(\\w+)-to-(\\w+) map:");
+
+  private final long[] starts;
+  private final long[] offsets;
+
+  private AlmanacFunction(final long[] starts, final long[] offsets) {
+    this.starts = starts;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Parses the maps of an almanac (every line past the seeds) and compiles the chain that goes
+   * from the given category to the last one reachable.
+   */
+  static AlmanacFunction compile(final List<String> lines, final String from) {
+    final var maps = new HashMap<String, Map.Entry<String, AlmanacFunction>>();
+    final var mappings = new ArrayList<long[]>();
+    final var buffer = new long[3];
+    String source = null;
+    String destination = null;
+    for (var i = 1; i <= lines.size(); i++) {
+      final var line = i < lines.size() ? lines.get(i).trim() : "";
+      final var header = FROM_TO_PATTERN.matcher(line);
+      if (header.find() || line.isEmpty()) {
+        if (source != null) {
+          maps.put(source, Map.entry(destination, of(mappings)));
+          source = null;
+          mappings.clear();
+        }
+        if (!line.isEmpty()) {
+          source = header.group(1);
+          destination = header.group(2);
+        }
+      } else if (source == null) {
+        throw new IllegalArgumentException("Mapping outside of a map: " + line);
+      } else if (PuzzleUtils.parseLongs(line, buffer) != buffer.length) {
+        throw new IllegalArgumentException("Malformed mapping: " + line);
+      } else {
+        mappings.add(buffer.clone());
+      }
+    }
+
+    var function = identity();
+    final var visited = new HashSet<String>();
+    var category = from;
+    while (maps.containsKey(category)) {
+      if (!visited.add(category)) {
+        throw new IllegalArgumentException("Maps loop back to " + category);
+      }
+
+      final var map = maps.get(category);
+      function = function.andThen(map.getValue());
+      category = map.getKey();
+    }
+
+    return function;
+  }
+
+  static AlmanacFunction identity() {
+    return new AlmanacFunction(new long[]{0}, new long[]{0});
+  }
+
+  /**
+   * @param mappings Single map, as (destination start, source start, length) triplets.
+   */
+  static AlmanacFunction of(final List<long[]> mappings) {
+    final var sorted = mappings.stream()
+                               .filter(m -> m[2] > 0)
+                               .sorted(Comparator.comparingLong(m -> m[1]))
+                               .toList();
+
+    final var pieces = new Pieces(2 * sorted.size() + 1);
+    var next = 0L;
+    for (final var mapping : sorted) {
+      final var start = mapping[1];
+      if (start < next) {
+        throw new IllegalArgumentException("Overlapping source ranges at " + start);
+      }
+
+      pieces.add(next, 0);
+      pieces.add(start, mapping[0] - start);
+      next = start + mapping[2];
+    }
+    pieces.add(next, 0);
+
+    return pieces.build();
+  }
+
+  /**
+   * @return The function applying this one, then {@code next}.
+   */
+  AlmanacFunction andThen(final AlmanacFunction next) {
+    final var pieces = new Pieces(starts.length + next.starts.length);
+    for (var i = 0; i < starts.length; i++) {
+      final var offset = offsets[i];
+      final var end = i + 1 < starts.length ? starts[i + 1] : Long.MAX_VALUE;
+      var start = starts[i];
+      var piece = next.pieceOf(start + offset);
+      while (true) {
+        pieces.add(start, offset + next.offsets[piece]);
+        if (piece + 1 == next.starts.length || next.starts[piece + 1] - offset >= end) {
+          break;
+        }
+
+        start = next.starts[++piece] - offset;
+      }
+    }
+
+    return pieces.build();
+  }
+
+  long apply(final long key) {
+    return key + offsets[pieceOf(key)];
+  }
+
+  /**
+   * Maps every number of the set in a single sweep: intervals and pieces both being sorted, the
+   * current piece only ever moves forward. The image is coalesced, so that it stays as small as
+   * possible when fed to a further map.
+   */
+  IntervalSet image(final IntervalSet ranges) {
+    // Every piece boundary splits at most one interval.
+    final var capacity = ranges.size() + starts.length;
+    final var imageStarts = new long[capacity];
+    final var imageEnds = new long[capacity];
+    var size = 0;
+
+    var piece = 0;
+    for (var interval = 0; interval < ranges.size(); interval++) {
+      var start = ranges.start(interval);
+      final var end = ranges.end(interval);
+      while (piece + 1 < starts.length && starts[piece + 1] <= start) {
+        piece++;
+      }
+      while (true) {
+        final var pieceEnd = piece + 1 < starts.length ? Math.min(end, starts[piece + 1]) : end;
+        imageStarts[size] = start + offsets[piece];
+        imageEnds[size++] = pieceEnd + offsets[piece];
+        if (pieceEnd == end) {
+          break;
+        }
+
+        start = pieceEnd;
+        piece++;
+      }
+    }
+
+    return IntervalSet.union(imageStarts, imageEnds, size);
+  }
+
+  /**
+   * Smallest number of the image of intervals {@code [from, to)} of the set, swept like
+   * {@link #image(IntervalSet)} without materializing the image: pieces are increasing, so only
+   * the first number mapped by every piece matters.
+   */
+  long min(final IntervalSet ranges, final int from, final int to) {
+    var min = Long.MAX_VALUE;
+    var piece = from < to ? pieceOf(ranges.start(from)) : 0;
+    for (var interval = from; interval < to; interval++) {
+      var start = ranges.start(interval);
+      final var end = ranges.end(interval);
+      while (piece + 1 < starts.length && starts[piece + 1] <= start) {
+        piece++;
+      }
+
+      min = Math.min(min, start + offsets[piece]);
+      while (piece + 1 < starts.length && starts[piece + 1] < end) {
+        start = starts[++piece];
+        min = Math.min(min, start + offsets[piece]);
+      }
+    }
+
+    return min;
+  }
+
+  int pieces() {
+    return starts.length;
+  }
+
+  private int pieceOf(final long key) {
+    if (key < 0) {
+      throw new IllegalArgumentException("Negative almanac number " + key);
+    }
+
+    final var index = Arrays.binarySearch(starts, key);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  /**
+   * Accumulates pieces in increasing order of start, dropping empty pieces and merging adjacent
+   * ones with the same offset.
+   */
+  private static final class Pieces {
+    private long[] starts;
+    private long[] offsets;
+    private int size = 0;
+
+    Pieces(final int capacity) {
+      starts = new long[capacity];
+      offsets = new long[capacity];
+    }
+
+    void add(final long start, final long offset) {
+      if (size > 0 && starts[size - 1] == start) {
+        size--;
+      }
+      if (size > 0 && offsets[size - 1] == offset) {
+        return;
+      }
+
+      if (size == starts.length) {
+        starts = Arrays.copyOf(starts, 2 * size);
+        offsets = Arrays.copyOf(offsets, 2 * size);
+      }
+      starts[size] = start;
+      offsets[size++] = offset;
+    }
+
+    AlmanacFunction build() {
+      return new AlmanacFunction(Arrays.copyOf(starts, size), Arrays.copyOf(offsets, size));
+    }
+  }
+}
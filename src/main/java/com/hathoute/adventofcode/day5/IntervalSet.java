@@ -0,0 +1,75 @@
+package com.hathoute.adventofcode.day5;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Union of half-open intervals of almanac numbers, kept as sorted parallel arrays of disjoint,
+ * non-adjacent intervals.
+ */
+final class IntervalSet {
+
+  private final long[] starts;
+  private final long[] ends;
+  private final int size;
+
+  private IntervalSet(final long[] starts, final long[] ends, final int size) {
+    this.starts = starts;
+    this.ends = ends;
+    this.size = size;
+  }
+
+  /**
+   * Coalesces the first {@code size} intervals, in any order and possibly overlapping, into a set.
+   * The arrays are sorted and reused in place, callers must not touch them afterwards.
+   *
+   * <p>A union only depends on the sorted starts and the sorted ends, not on which end belongs to
+   * which start: sweeping both, an interval of the union opens whenever no interval is open and
+   * closes once all of them are.
+   */
+  static IntervalSet union(final long[] starts, final long[] ends, final int size) {
+    Arrays.sort(starts, 0, size);
+    Arrays.sort(ends, 0, size);
+
+    var coalesced = 0;
+    var open = 0;
+    var closed = 0;
+    for (var i = 0; i < size; i++) {
+      // Ends equal to the next start are not closed yet, so that adjacent intervals are merged.
+      while (ends[closed] < starts[i]) {
+        closed++;
+        if (--open == 0) {
+          ends[coalesced++] = ends[closed - 1];
+        }
+      }
+      if (open++ == 0) {
+        starts[coalesced] = starts[i];
+      }
+    }
+    if (size > 0) {
+      ends[coalesced++] = ends[size - 1];
+    }
+
+    return new IntervalSet(starts, ends, coalesced);
+  }
+
+  int size() {
+    return size;
+  }
+
+  long start(final int interval) {
+    return starts[interval];
+  }
+
+  long end(final int interval) {
+    return ends[interval];
+  }
+
+  long min() {
+    if (size == 0) {
+      throw new NoSuchElementException("Empty interval set");
+    }
+
+    return starts[0];
+  }
+}
@@ -1,175 +1,96 @@
 package com.hathoute.adventofcode.day5;
 
-import static com.hathoute.adventofcode.PuzzleUtils.parseLongs;
-import static java.lang.Math.max;
-import static java.lang.Math.min;
+import static com.hathoute.adventofcode.PuzzleUtils.longs;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.ParallelPuzzle;
+import com.hathoute.adventofcode.ParsingPuzzle;
+import com.hathoute.adventofcode.Puzzle;
+import com.hathoute.adventofcode.PuzzleMetrics;
 import com.hathoute.adventofcode.PuzzleUtils;
-import com.hathoute.adventofcode.PuzzleUtils.Tuple2;
-import com.hathoute.adventofcode.PuzzleUtils.Tuple3;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 public class SeedFertilizerPart2Solution {
   public static void main(final String[] args) {
     final var input = PuzzleUtils.readLinesFromFile("/day5/SeedFertilizerInput.txt");
-    final var resolver = new SeedFertilizer("seed");
+    final var resolver = new SeedFertilizer();
 
     final var result = resolver.solve(input);
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class SeedFertilizer implements AdventOfCodePuzzle {
-    private static final Pattern FROM_TO_PATTERN = Pattern.compile("(\\w+)-to-(\\w+) map:");
+  @Puzzle(day = 5, part = 2, input = "/day5/SeedFertilizerInput.txt", version = 2)
+  static class SeedFertilizer implements ParallelPuzzle, ParsingPuzzle<SeedFertilizer.Almanac> {
+    private static final String DEFAULT_INITIALIZER = "seed";
+    private static final int SLICE_RANGES = 256;
 
     private final String initializerName;
 
+    SeedFertilizer() {
+      this(DEFAULT_INITIALIZER);
+    }
+
     SeedFertilizer(final String initializerName) {
       this.initializerName = initializerName;
     }
 
     @Override
-    public String solve(final List<String> input) {
-      final var initializer = parseInitializer(input.get(0));
-      final var rangeMaps = parseMaps(input);
-
-      final var minValue = initializer.stream()
-                                      .map(initRange -> compute(rangeMaps, initializerName, initRange))
-                                      .flatMap(List::stream)
-                                      .mapToLong(RangeEntry::startInclusive)
-                                      .min()
-                                      .orElseThrow();
-
-      return String.valueOf(minValue);
-    }
-
-    private List<RangeEntry> compute(final Map<String, Tuple2<String, Map<RangeEntry, Long>>> rangeMap,
-        final String init, final RangeEntry entry) {
-      var currentKey = init;
-      var currentVal = List.of(entry);
-      while (rangeMap.containsKey(currentKey)) {
-        final var ranges = rangeMap.get(currentKey);
-        currentKey = ranges.left();
-        currentVal = computeImage(ranges.right(), currentVal);
-        // Could consider merging the result if we run into too many ranges overlapping.
-      }
-
-      return currentVal;
+    public Almanac parse(final List<String> input) {
+      return new Almanac(parseInitializer(input.get(0)),
+          AlmanacFunction.compile(input, initializerName));
     }
 
-    private Map<String, Tuple2<String, Map<RangeEntry, Long>>> parseMaps(final List<String> lines) {
-      final var concatenated = lines.stream().skip(2).map(String::trim).collect(Collectors.joining("\n"));
-
-      final var splitMaps = concatenated.split("\n\n");
-      return Arrays.stream(splitMaps)
-                   .map(s -> s.split("\n"))
-                   .map(List::of)
-                   .map(SeedFertilizer::parseMap)
-                   .collect(Collectors.toMap(Tuple3::left, t3 -> Tuple2.of(t3.mid(), t3.right())));
-    }
-
-    private static List<RangeEntry> computeImage(final Map<RangeEntry, Long> map,
-        final List<RangeEntry> param) {
-      var remainings = Collections.unmodifiableList(param);
-      final var image = new ArrayList<RangeEntry>();
-      for (final var entry : map.entrySet()) {
-        final var computed = remainings.stream()
-                                       .map(p -> computeImage(entry.getKey(), entry.getValue(), p))
-                                       .toList();
-
-        remainings = computed.stream().map(Tuple2::left).flatMap(List::stream).toList();
-
-        computed.stream().map(Tuple2::right).flatMap(Optional::stream).forEach(image::add);
+    @Override
+    public String solveParsed(final Almanac almanac) {
+      try (final var phase = PuzzleMetrics.phase("compute")) {
+        final var function = almanac.function();
+        PuzzleMetrics.count("pieces.compiled", function.pieces());
+        return String.valueOf(function.image(almanac.initializer()).min());
       }
-
-      image.addAll(remainings);
-      return image;
     }
 
     /**
-     * Applies param to the (key, value) pair as explained by the AdventOfCode problem.
-     *
-     * @return A tuple of a list containing remaining ranges (key \ param) and an optional which
-     *     contains the mapped range if it exists.
+     * Sweeps slices of the seed ranges on the common fork-join pool, every slice folding its
+     * minimum into a shared lock-free accumulator. Each sweep only keeps its current piece and
+     * running minimum, so workers share nothing but the accumulator.
      */
-    private static Tuple2<List<RangeEntry>, Optional<RangeEntry>> computeImage(final RangeEntry key,
-        final long value, final RangeEntry param) {
-      final var intersectionOpt = key.intersection(param);
-      if (intersectionOpt.isEmpty()) {
-        return Tuple2.of(List.of(param), Optional.empty());
-      }
-
-      final var remainings = new LinkedList<RangeEntry>();
-      if (param.startInclusive < key.startInclusive) {
-        remainings.addLast(new RangeEntry(param.startInclusive, key.startInclusive));
-      }
-      if (param.endExclusive > key.endExclusive) {
-        remainings.addLast(new RangeEntry(key.endExclusive, param.endExclusive));
+    @Override
+    public String solveParallel(final List<String> input) {
+      final var parsed = parse(input);
+      final var initializer = parsed.initializer();
+      final var almanac = parsed.function();
+      if (initializer.size() == 0) {
+        throw new NoSuchElementException("No seed range");
       }
 
-      final var intersection = intersectionOpt.get();
-      final var startOffset = intersection.startInclusive - key.startInclusive;
-      final var image = new RangeEntry(value + startOffset, value + startOffset + intersection.length());
-
-      return Tuple2.of(remainings, Optional.of(image));
-    }
+      final var min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+      final var slices = (initializer.size() + SLICE_RANGES - 1) / SLICE_RANGES;
+      IntStream.range(0, slices)
+               .parallel()
+               .forEach(slice -> min.accumulate(almanac.min(initializer, slice * SLICE_RANGES,
+                   Math.min(initializer.size(), (slice + 1) * SLICE_RANGES))));
 
-    private static List<RangeEntry> parseInitializer(final String firstLine) {
-      final var separatorIndex = firstLine.indexOf(':');
-      final var nums = parseLongs(firstLine.substring(separatorIndex + 1), " ").toList();
-      return IntStream.range(0, nums.size() / 2)
-                      .mapToObj(i -> Tuple2.of(nums.get(2 * i), nums.get(2 * i + 1)))
-                      .map(t2 -> new RangeEntry(t2.left(), t2.left() + t2.right()))
-                      .toList();
+      return String.valueOf(min.get());
     }
 
-    private static Tuple3<String, String, Map<RangeEntry, Long>> parseMap(final List<String> subList) {
-      final var matcher = FROM_TO_PATTERN.matcher(subList.get(0));
-      if (!matcher.find()) {
-        throw new IllegalArgumentException("Malformed map header");
+    private static IntervalSet parseInitializer(final String firstLine) {
+      final var nums = longs(firstLine).toArray();
+      final var starts = new long[nums.length / 2];
+      final var ends = new long[nums.length / 2];
+      var size = 0;
+      for (var i = 0; i + 1 < nums.length; i += 2) {
+        if (nums[i + 1] > 0) {
+          starts[size] = nums[i];
+          ends[size++] = nums[i] + nums[i + 1];
+        }
       }
 
-      final var fromName = matcher.group(1);
-      final var toName = matcher.group(2);
-
-      final var ranges = subList.stream()
-                                .skip(1)
-                                .map(s -> parseLongs(s, " "))
-                                .map(Stream::toList)
-                                .collect(
-                              Collectors.toMap(l -> new RangeEntry(l.get(1), l.get(1) + l.get(2)),
-                                  l -> l.get(0)));
-
-      return Tuple3.of(fromName, toName, ranges);
+      return IntervalSet.union(starts, ends, size);
     }
 
-    record RangeEntry(long startInclusive, long endExclusive) {
-      boolean intersects(final RangeEntry other) {
-        return this.endExclusive > other.startInclusive && other.endExclusive > this.startInclusive;
-      }
-
-      Optional<RangeEntry> intersection(final RangeEntry other) {
-        if (!intersects(other)) {
-          return Optional.empty();
-        }
-
-        return Optional.of(new RangeEntry(max(this.startInclusive, other.startInclusive),
-            min(this.endExclusive, other.endExclusive)));
-      }
-
-      long length() {
-        return endExclusive - startInclusive;
-      }
+    record Almanac(IntervalSet initializer, AlmanacFunction function) {
     }
   }
 }
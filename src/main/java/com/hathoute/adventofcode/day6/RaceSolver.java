@@ -0,0 +1,118 @@
+package com.hathoute.adventofcode.day6;
+
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Exact count of the ways to beat boat race records. Holding the button {@code h} out of
+ * {@code time} milliseconds travels {@code h * (time - h)}, which beats {@code distance} for every
+ * {@code h} strictly between the roots of {@code h^2 - time * h + distance}. Winning holds are
+ * symmetric around {@code time / 2}, so counting them only takes the smallest one.
+ *
+ * <p>That one is found from the integer square root of the discriminant, corrected by a step or
+ * two, in longs while {@code time^2} fits and with {@link BigInteger} past that.
+ */
+public final class RaceSolver {
+
+  // Largest time whose square fits in a long.
+  static final long MAX_EXACT_TIME = 3_037_000_499L;
+  private static final long MAX_EXACT_DISTANCE = Long.MAX_VALUE / 4;
+
+  private RaceSolver() {
+  }
+
+  public static long waysToWin(final long time, final long distance) {
+    if (time < 0 || distance < 0) {
+      throw new IllegalArgumentException(
+          "Negative race (time %d, distance %d)".formatted(time, distance));
+    }
+
+    return time <= MAX_EXACT_TIME && distance <= MAX_EXACT_DISTANCE
+        ? exactWays(time, distance)
+        : bigWays(BigInteger.valueOf(time), BigInteger.valueOf(distance));
+  }
+
+  /**
+   * Counts the ways to win every race, in parallel.
+   *
+   * @param times     Race times, indexed like {@code distances}.
+   * @param distances Record distances.
+   */
+  public static BatchResult waysToWinAll(final long[] times, final long[] distances) {
+    if (times.length != distances.length) {
+      throw new IllegalArgumentException(
+          "Got %d times for %d distances".formatted(times.length, distances.length));
+    }
+
+    final var ways = new long[times.length];
+    IntStream.range(0, times.length)
+             .parallel()
+             .forEach(race -> ways[race] = waysToWin(times[race], distances[race]));
+
+    // Parallel reduction multiplies balanced halves, keeping big products cheap.
+    final var product = IntStream.range(0, ways.length)
+                                 .parallel()
+                                 .mapToObj(race -> BigInteger.valueOf(ways[race]))
+                                 .reduce(BigInteger.ONE, BigInteger::multiply);
+
+    return new BatchResult(product, ways);
+  }
+
+  private static long exactWays(final long time, final long distance) {
+    // The longest distance is reached by holding half the time, if even that loses there is no way.
+    final var half = time / 2;
+    if (half * (time - half) <= distance) {
+      return 0;
+    }
+
+    final var discriminant = time * time - 4 * distance;
+
+    // Squares are compared through divisions, they overflow next to MAX_EXACT_TIME.
+    var root = (long) Math.sqrt((double) discriminant);
+    while (root > 0 && root > discriminant / root) {
+      root--;
+    }
+    while (root + 1 <= discriminant / (root + 1)) {
+      root++;
+    }
+
+    var hold = (time - root) / 2;
+    while (hold * (time - hold) <= distance) {
+      hold++;
+    }
+    while (hold > 0 && (hold - 1) * (time - hold + 1) > distance) {
+      hold--;
+    }
+
+    return time - 2 * hold + 1;
+  }
+
+  private static long bigWays(final BigInteger time, final BigInteger distance) {
+    final var half = time.shiftRight(1);
+    if (half.multiply(time.subtract(half)).compareTo(distance) <= 0) {
+      return 0;
+    }
+
+    final var discriminant = time.multiply(time).subtract(distance.shiftLeft(2));
+
+    // BigInteger#sqrt is already the floor of the square root.
+    var hold = time.subtract(discriminant.sqrt()).shiftRight(1);
+    while (hold.multiply(time.subtract(hold)).compareTo(distance) <= 0) {
+      hold = hold.add(BigInteger.ONE);
+    }
+    while (hold.signum() > 0
+        && hold.subtract(BigInteger.ONE).multiply(time.subtract(hold).add(BigInteger.ONE))
+               .compareTo(distance) > 0) {
+      hold = hold.subtract(BigInteger.ONE);
+    }
+
+    return time.subtract(hold.shiftLeft(1)).add(BigInteger.ONE).longValueExact();
+  }
+
+  /**
+   * @param product Product of the ways to win every race.
+   * @param ways    Ways to win each race, in the order of the races.
+   */
+  public record BatchResult(BigInteger product, long[] ways) {
+  }
+}
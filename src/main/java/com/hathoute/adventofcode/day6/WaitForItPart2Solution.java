@@ -1,11 +1,9 @@
 package com.hathoute.adventofcode.day6;
 
-import static java.util.function.UnaryOperator.identity;
-
 import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class WaitForItPart2Solution {
 
@@ -16,39 +14,29 @@ public class WaitForItPart2Solution {
     System.out.printf("Solution is: %s%n", result);
   }
 
+  @Puzzle(day = 6, part = 2, input = "/day6/WaitForItInput.txt")
   static class WaitForIt implements AdventOfCodePuzzle {
 
-    private static final double DEFAULT_ACCELERATION = 1.0d;
-
     @Override
     public String solve(final List<String> inputLines) {
-      final var entry = parseLines(inputLines.get(0), inputLines.get(1));
-      final var waysCount = processRace(entry);
+      final var time = parseKerned(inputLines.get(0));
+      final var distance = parseKerned(inputLines.get(1));
 
-      return String.valueOf(waysCount);
+      return String.valueOf(RaceSolver.waysToWin(time, distance));
     }
 
-    private RaceEntry parseLines(final String times, final String distances) {
-      final var timeStr = PuzzleUtils.parse(times.substring(5), "\\s+", identity())
-                                     .collect(Collectors.joining());
-      final var distanceStr = PuzzleUtils.parse(distances.substring(9), "\\s+", identity())
-                                         .collect(Collectors.joining());
-
-      return new RaceEntry(Long.parseLong(timeStr), Long.parseLong(distanceStr));
+    /**
+     * Reads all the digits of the line as a single number, ignoring whatever is in between.
+     */
+    private static long parseKerned(final String line) {
+      var value = 0L;
+      for (var i = 0; i < line.length(); i++) {
+        if (PuzzleUtils.isNumber(line.charAt(i))) {
+          value = Math.addExact(Math.multiplyExact(value, 10), line.charAt(i) - '0');
+        }
+      }
+
+      return value;
     }
-
-    private long processRace(final RaceEntry entry) {
-      final var target = entry.distance + 1;
-      final var sqrtDelta = Math.sqrt(
-          entry.recordTime * entry.recordTime - 4 * target / DEFAULT_ACCELERATION);
-      final var lower = Math.max(1, Math.ceil((entry.recordTime - sqrtDelta) / 2));
-      final var higher = Math.max(1, Math.floor((entry.recordTime + sqrtDelta) / 2));
-
-      return (long) (higher - lower + 1);
-    }
-
-    record RaceEntry(long recordTime, long distance) {
-    }
-
   }
-}
\ No newline at end of file
+}
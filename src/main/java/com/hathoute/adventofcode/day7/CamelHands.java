@@ -0,0 +1,191 @@
+package com.hathoute.adventofcode.day7;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.util.Arrays;
+
+/**
+ * Hands of camel cards ranked by strength, each encoded once into an int key that orders like the
+ * hand: its type in bits 20 to 22, then the rank of each card in 4 bits, first card highest.
+ *
+ * <p>Hands are kept as longs packing the key above the bid, and ranked with an LSD radix sort on
+ * the key bits. The sort is stable, so identical hands keep the order they came in.
+ */
+final class CamelHands {
+
+  static final int HAND_SIZE = 5;
+  static final int KEY_BITS = 23;
+
+  private static final String CARDS = "23456789TJQKA";
+  private static final String JOKER_CARDS = "J23456789TQKA";
+  private static final byte[] RANKS = ranks(CARDS);
+  private static final byte[] JOKER_RANKS = ranks(JOKER_CARDS);
+
+  private static final int TYPE_SHIFT = 4 * HAND_SIZE;
+  private static final int HIGH_CARD = 0;
+  private static final int ONE_PAIR = 1;
+  private static final int TWO_PAIR = 2;
+  private static final int THREE_OF_KIND = 3;
+  private static final int FULL_HOUSE = 4;
+  private static final int FOUR_OF_KIND = 5;
+  private static final int FIVE_OF_KIND = 6;
+
+  private static final int RADIX_BITS = 12;
+  private static final int BID_BITS = 32;
+  private static final long BID_MASK = (1L << BID_BITS) - 1;
+
+  private final boolean jokers;
+  private long[] hands = new long[1024];
+  private int size = 0;
+
+  /**
+   * @param jokers Whether J cards are jokers: the weakest card, but standing for whichever card
+   *               makes the strongest hand type.
+   */
+  CamelHands(final boolean jokers) {
+    this.jokers = jokers;
+  }
+
+  static int key(final CharSequence cards, final boolean jokers) {
+    if (cards.length() < HAND_SIZE) {
+      throw new IllegalArgumentException("Hand too short: " + cards);
+    }
+
+    final var ranks = jokers ? JOKER_RANKS : RANKS;
+    var key = 0;
+    for (var i = 0; i < HAND_SIZE; i++) {
+      key = key << 4 | rank(ranks, cards.charAt(i));
+    }
+
+    final var joker = jokers ? ranks['J'] : -1;
+    var jokerCount = 0;
+    var distinct = 0;
+    var largestGroup = 0;
+    for (var i = 0; i < HAND_SIZE; i++) {
+      final var rank = cardRank(key, i);
+      if (rank == joker) {
+        jokerCount++;
+        continue;
+      }
+
+      var group = 1;
+      var seen = false;
+      for (var j = 0; j < HAND_SIZE; j++) {
+        if (j != i && cardRank(key, j) == rank) {
+          group++;
+          seen |= j < i;
+        }
+      }
+      distinct += seen ? 0 : 1;
+      largestGroup = Math.max(largestGroup, group);
+    }
+
+    // Jokers always join the largest group.
+    final var type = switch (largestGroup + jokerCount) {
+      case 5 -> FIVE_OF_KIND;
+      case 4 -> FOUR_OF_KIND;
+      case 3 -> distinct == 2 ? FULL_HOUSE : THREE_OF_KIND;
+      case 2 -> distinct == 3 ? TWO_PAIR : ONE_PAIR;
+      default -> HIGH_CARD;
+    };
+
+    return type << TYPE_SHIFT | key;
+  }
+
+  /**
+   * @param line Hand then bid, e.g. {@code 32T3K 765}.
+   */
+  void add(final CharSequence line) {
+    final var bid = bid(line);
+    if (size == hands.length) {
+      hands = Arrays.copyOf(hands, 2 * size);
+    }
+    hands[size++] = (long) key(line, jokers) << BID_BITS | bid;
+  }
+
+  long totalWinnings() {
+    sortByKey(hands, size);
+
+    var total = 0L;
+    for (var i = 0; i < size; i++) {
+      total += (i + 1) * (hands[i] & BID_MASK);
+    }
+
+    return total;
+  }
+
+  static long bid(final CharSequence line) {
+    if (line.length() <= HAND_SIZE + 1 || line.charAt(HAND_SIZE) != ' ') {
+      throw new IllegalArgumentException("Malformed hand: " + line);
+    }
+
+    var bid = 0L;
+    for (var i = HAND_SIZE + 1; i < line.length(); i++) {
+      final var c = line.charAt(i);
+      if (!PuzzleUtils.isNumber(c) || bid > BID_MASK / 10) {
+        throw new IllegalArgumentException("Invalid bid in: " + line);
+      }
+      bid = bid * 10 + c - '0';
+    }
+    if (bid > BID_MASK) {
+      throw new IllegalArgumentException("Invalid bid in: " + line);
+    }
+
+    return bid;
+  }
+
+  /**
+   * Two counting passes of {@value #RADIX_BITS} bits each over the key, above the bid.
+   */
+  private static void sortByKey(final long[] values, final int size) {
+    var from = values;
+    var to = new long[size];
+    final var counts = new int[(1 << RADIX_BITS) + 1];
+    for (var shift = BID_BITS; shift < BID_BITS + KEY_BITS; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (var i = 0; i < size; i++) {
+        counts[digit(from[i], shift) + 1]++;
+      }
+      for (var digit = 1; digit < counts.length; digit++) {
+        counts[digit] += counts[digit - 1];
+      }
+      for (var i = 0; i < size; i++) {
+        to[counts[digit(from[i], shift)]++] = from[i];
+      }
+
+      final var swap = from;
+      from = to;
+      to = swap;
+    }
+
+    if (from != values) {
+      System.arraycopy(from, 0, values, 0, size);
+    }
+  }
+
+  private static int cardRank(final int key, final int card) {
+    return key >>> 4 * (HAND_SIZE - 1 - card) & 0xF;
+  }
+
+  private static int digit(final long value, final int shift) {
+    return (int) (value >>> shift) & ((1 << RADIX_BITS) - 1);
+  }
+
+  private static int rank(final byte[] ranks, final char card) {
+    final var rank = card < ranks.length ? ranks[card] : -1;
+    if (rank < 0) {
+      throw new IllegalArgumentException("Unknown card " + card);
+    }
+
+    return rank;
+  }
+
+  private static byte[] ranks(final String cards) {
+    final var ranks = new byte[128];
+    Arrays.fill(ranks, (byte) -1);
+    for (var rank = 0; rank < cards.length(); rank++) {
+      ranks[cards.charAt(rank)] = (byte) rank;
+    }
+
+    return ranks;
+  }
+}
@@ -0,0 +1,107 @@
+package com.hathoute.adventofcode.day7;
+
+/**
+ * Ranking of a growing feed of hands, answering the total winnings after every insert.
+ *
+ * <p>Hands are counted in Fenwick trees over every possible hand (7 types times 13^5 card
+ * sequences, in strength order), one for the number of hands and one for the sum of their bids.
+ * A new hand ranks right after every hand at most as strong, and each stronger hand moves up a
+ * rank, winning its bid once more. Both come from prefix queries, so an insert takes O(log n) for
+ * the 2.6M possible hands, whatever the number of hands inserted.
+ */
+public final class HandRanking {
+
+  private static final int CARD_RANKS = 13;
+  private static final int SEQUENCES = pow(CARD_RANKS, CamelHands.HAND_SIZE);
+  private static final int TYPES = 7;
+  private static final int HANDS = TYPES * SEQUENCES;
+
+  private final boolean jokers;
+  private final int[] counts = new int[HANDS + 1];
+  private final long[] bidSums = new long[HANDS + 1];
+  private int size = 0;
+  private long bids = 0;
+  private long totalWinnings = 0;
+
+  /**
+   * @param jokers Whether hands are ranked with J cards as jokers (part 2 rules).
+   */
+  public HandRanking(final boolean jokers) {
+    this.jokers = jokers;
+  }
+
+  /**
+   * @param line Hand then bid, e.g. {@code 32T3K 765}.
+   * @return The total winnings including this hand.
+   */
+  public long add(final CharSequence line) {
+    return add(CamelHands.key(line, jokers), CamelHands.bid(line));
+  }
+
+  /**
+   * Identical hands rank in the order they were added.
+   */
+  long add(final int key, final long bid) {
+    final var index = index(key);
+    final var atMost = prefix(counts, index);
+    final var strongerBids = bids - prefix(bidSums, index);
+    totalWinnings += (atMost + 1) * bid + strongerBids;
+
+    for (var node = index; node <= HANDS; node += node & -node) {
+      counts[node]++;
+      bidSums[node] += bid;
+    }
+    size++;
+    bids += bid;
+
+    return totalWinnings;
+  }
+
+  public long totalWinnings() {
+    return totalWinnings;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return The 1-based position of the hand among every possible hand, by strength.
+   */
+  private static int index(final int key) {
+    var sequence = 0;
+    for (var card = CamelHands.HAND_SIZE - 1; card >= 0; card--) {
+      sequence = sequence * CARD_RANKS + (key >>> 4 * card & 0xF);
+    }
+
+    final var type = key >>> 4 * CamelHands.HAND_SIZE;
+    return type * SEQUENCES + sequence + 1;
+  }
+
+  private static long prefix(final int[] tree, final int index) {
+    var sum = 0L;
+    for (var node = index; node > 0; node -= node & -node) {
+      sum += tree[node];
+    }
+
+    return sum;
+  }
+
+  private static long prefix(final long[] tree, final int index) {
+    var sum = 0L;
+    for (var node = index; node > 0; node -= node & -node) {
+      sum += tree[node];
+    }
+
+    return sum;
+  }
+
+  private static int pow(final int base, final int exponent) {
+    var power = 1;
+    for (var i = 0; i < exponent; i++) {
+      power *= base;
+    }
+
+    return power;
+  }
+}
@@ -3,7 +3,9 @@ package com.hathoute.adventofcode.day8;
 import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.maxBy;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.ParsingPuzzle;
+import com.hathoute.adventofcode.Puzzle;
+import com.hathoute.adventofcode.PuzzleMetrics;
 import com.hathoute.adventofcode.PuzzleUtils;
 import com.hathoute.adventofcode.PuzzleUtils.Tuple2;
 import com.hathoute.adventofcode.PuzzleUtils.Tuple3;
@@ -23,7 +25,8 @@ public class HauntedWastelandPart2Solution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class HauntedWastelandPart2 implements AdventOfCodePuzzle {
+  @Puzzle(day = 8, part = 2, input = "/day8/HauntedWasteland.txt")
+  static class HauntedWastelandPart2 implements ParsingPuzzle<HauntedWastelandPart2.Network> {
 
     private static final Pattern LINE_PATTERN = Pattern.compile(
         "(\\w{3}) = \\((\\w{3}), (\\w{3})\\)");
@@ -31,24 +34,33 @@ public class HauntedWastelandPart2Solution {
     private static final char FINISH_CHAR = 'Z';
 
     @Override
-    public String solve(final List<String> input) {
-      final var sequence = input.get(0);
+    public Network parse(final List<String> input) {
       final var elements = input.stream()
                                 .skip(2)
                                 .map(this::parseLine)
                                 .collect(Collectors.toMap(Tuple3::left,
                                     t3 -> new Tuple2<>(t3.mid(), t3.right())));
 
+      return new Network(input.get(0), elements);
+    }
+
+    @Override
+    public String solveParsed(final Network network) {
+      final var sequence = network.sequence();
+      final var elements = network.elements();
+
       final var startPositions = elements.keySet()
                                          .stream()
                                          .filter(s -> s.charAt(2) == START_CHAR)
                                          .toList();
 
-      final var startMemories = startPositions.stream()
-                                              .map(pos -> Tuple2.of(pos,
-                                                  closestFinish(elements, pos, sequence)))
-                                              .collect(
-                                                  Collectors.toMap(Tuple2::left, Tuple2::right));
+      final Map<String, Tuple2<String, Integer>> startMemories;
+      try (final var phase = PuzzleMetrics.phase("walk")) {
+        startMemories = startPositions.stream()
+                                      .map(pos -> Tuple2.of(pos,
+                                          closestFinish(elements, pos, sequence)))
+                                      .collect(Collectors.toMap(Tuple2::left, Tuple2::right));
+      }
 
       // Doing the same operation as above for finishPositions, it is seen that the steps from
       // XXXA -> XXXZ are equal to XXXZ -> XXXZ (where XXX are the same, not a placeholder),
@@ -97,6 +109,7 @@ public class HauntedWastelandPart2Solution {
       for (final var instruction : sequence.toCharArray()) {
         currentPosition = runInstruction(elements.get(currentPosition), instruction);
       }
+      PuzzleMetrics.count("steps.walked", sequence.length());
       return currentPosition;
     }
 
@@ -112,5 +125,8 @@ public class HauntedWastelandPart2Solution {
 
       return Tuple3.of(matcher.group(1), matcher.group(2), matcher.group(3));
     }
+
+    record Network(String sequence, Map<String, Tuple2<String, String>> elements) {
+    }
   }
 }
\ No newline at end of file
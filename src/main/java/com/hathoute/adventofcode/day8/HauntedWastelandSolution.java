@@ -1,6 +1,8 @@
 package com.hathoute.adventofcode.day8;
 
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.ParsingPuzzle;
+import com.hathoute.adventofcode.Puzzle;
+import com.hathoute.adventofcode.PuzzleMetrics;
 import com.hathoute.adventofcode.PuzzleUtils;
 import com.hathoute.adventofcode.PuzzleUtils.Tuple2;
 import com.hathoute.adventofcode.PuzzleUtils.Tuple3;
@@ -18,7 +20,8 @@ public class HauntedWastelandSolution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class HauntedWasteland implements AdventOfCodePuzzle {
+  @Puzzle(day = 8, part = 1, input = "/day8/HauntedWasteland.txt")
+  static class HauntedWasteland implements ParsingPuzzle<HauntedWasteland.Network> {
 
     private static final Pattern LINE_PATTERN = Pattern.compile(
         "(\\w{3}) = \\((\\w{3}), (\\w{3})\\)");
@@ -26,22 +29,30 @@ public class HauntedWastelandSolution {
     private static final String FINISH = "ZZZ";
 
     @Override
-    public String solve(final List<String> input) {
-      final var sequence = input.get(0);
+    public Network parse(final List<String> input) {
       final var elements = input.stream()
                                 .skip(2)
                                 .map(this::parseLine)
                                 .collect(Collectors.toMap(Tuple3::left,
                                     t3 -> new Tuple2<>(t3.mid(), t3.right())));
 
-      var currentPosition = START;
-      var steps = 0;
-      while (!currentPosition.equals(FINISH)) {
-        currentPosition = runSequence(elements, currentPosition, sequence);
-        steps += sequence.length();
-      }
+      return new Network(input.get(0), elements);
+    }
+
+    @Override
+    public String solveParsed(final Network network) {
+      final var sequence = network.sequence();
+      final var elements = network.elements();
+      try (final var phase = PuzzleMetrics.phase("walk")) {
+        var currentPosition = START;
+        var steps = 0;
+        while (!currentPosition.equals(FINISH)) {
+          currentPosition = runSequence(elements, currentPosition, sequence);
+          steps += sequence.length();
+        }
 
-      return String.valueOf(steps);
+        return String.valueOf(steps);
+      }
     }
 
     private String runSequence(final Map<String, Tuple2<String, String>> elements,
@@ -50,6 +61,7 @@ public class HauntedWastelandSolution {
       for (final var instruction : sequence.toCharArray()) {
         currentPosition = runInstruction(elements.get(currentPosition), instruction);
       }
+      PuzzleMetrics.count("steps.walked", sequence.length());
       return currentPosition;
     }
 
@@ -65,5 +77,8 @@ public class HauntedWastelandSolution {
 
       return new Tuple3<>(matcher.group(1), matcher.group(2), matcher.group(3));
     }
+
+    record Network(String sequence, Map<String, Tuple2<String, String>> elements) {
+    }
   }
 }
\ No newline at end of file
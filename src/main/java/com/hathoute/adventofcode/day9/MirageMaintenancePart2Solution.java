@@ -1,11 +1,8 @@
 package com.hathoute.adventofcode.day9;
 
-import com.google.common.collect.Lists;
-import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
 import com.hathoute.adventofcode.PuzzleUtils;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import com.hathoute.adventofcode.StreamingPuzzle;
 
 public class MirageMaintenancePart2Solution {
 
@@ -16,44 +13,74 @@ public class MirageMaintenancePart2Solution {
     System.out.printf("Solution is: %s%n", result);
   }
 
-  static class MirageMaintenancePart2 implements AdventOfCodePuzzle {
+  @Puzzle(day = 9, part = 2, input = "/day9/MirageMaintenance.txt")
+  static class MirageMaintenancePart2 implements StreamingPuzzle {
 
-    // Only change between this and MirageMaintenance.class is
+    // Only change between this and MirageMaintenance.class is reversing the values.
 
     @Override
-    public String solve(final List<String> input) {
-      final var valuesSum = input.stream()
-                                 .map(s -> PuzzleUtils.parseLongs(s, " ").toList())
-                                 .map(Lists::reverse)
-                                 .mapToLong(this::nextValue)
-                                 .sum();
-
-      return String.valueOf(valuesSum);
-    }
+    public LineSolver newSolver() {
+      return new LineSolver() {
+        // Scratch buffer of this solver only, grown to fit the longest line.
+        private long[] values = new long[32];
+        private long sum = 0;
+
+        @Override
+        public void accept(final CharSequence line) {
+          // Every number takes at least one character and one separator.
+          if (values.length < line.length() / 2 + 1) {
+            values = new long[line.length() / 2 + 1];
+          }
+
+          final var count = PuzzleUtils.parseLongs(line, values);
+          reverse(values, count);
+          sum += nextValue(values, count);
+        }
 
-    private long nextValue(final List<Long> values) {
-      return derivatives(values).stream().mapToLong(PuzzleUtils::findLast).sum();
+        @Override
+        public String result() {
+          return String.valueOf(sum);
+        }
+      };
     }
 
-    private List<List<Long>> derivatives(final List<Long> values) {
-      final var result = new LinkedList<List<Long>>();
-      var currentDiff = values;
+    /**
+     * Sums the last value of every derivative, which are computed in place.
+     */
+    private static long nextValue(final long[] values, final int count) {
+      var next = 0L;
+      var size = count;
+      while (!allZeros(values, size)) {
+        if (size < 2) {
+          throw new IllegalArgumentException("values");
+        }
 
-      while (currentDiff.stream().anyMatch(n -> n != 0)) {
-        result.addLast(currentDiff);
-        currentDiff = derivative(currentDiff);
+        next += values[size - 1];
+        for (var i = 0; i < size - 1; i++) {
+          values[i] = values[i + 1] - values[i];
+        }
+        size--;
       }
 
-      return result;
+      return next;
     }
 
-    private static List<Long> derivative(final List<Long> values) {
-      if (values.size() < 2) {
-        throw new IllegalArgumentException("values");
+    private static boolean allZeros(final long[] values, final int size) {
+      for (var i = 0; i < size; i++) {
+        if (values[i] != 0) {
+          return false;
+        }
       }
 
-      final var previous = new AtomicLong(values.get(0));
-      return values.stream().skip(1).map(n -> n - previous.getAndSet(n)).toList();
+      return true;
+    }
+
+    private static void reverse(final long[] values, final int count) {
+      for (var i = 0; i < count / 2; i++) {
+        final var tmp = values[i];
+        values[i] = values[count - 1 - i];
+        values[count - 1 - i] = tmp;
+      }
     }
   }
 }
\ No newline at end of file
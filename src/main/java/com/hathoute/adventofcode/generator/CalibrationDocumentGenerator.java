@@ -0,0 +1,40 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 1, {@code scale} is the number of lines. Every line holds at least one digit so that both
+ * parts are solvable.
+ */
+public class CalibrationDocumentGenerator implements InputGenerator {
+
+  private static final String[] DIGIT_WORDS = {"one", "two", "three", "four", "five", "six",
+      "seven", "eight", "nine"};
+  private static final int MIN_TOKENS = 2;
+  private static final int MAX_TOKENS = 12;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var builder = new StringBuilder();
+    for (var i = 0; i < scale; i++) {
+      builder.setLength(0);
+      final var tokens = MIN_TOKENS + random.nextInt(MAX_TOKENS - MIN_TOKENS + 1);
+      final var digitToken = random.nextInt(tokens);
+      for (var token = 0; token < tokens; token++) {
+        if (token == digitToken) {
+          builder.append((char) ('1' + random.nextInt(9)));
+          continue;
+        }
+
+        switch (random.nextInt(3)) {
+          case 0 -> builder.append((char) ('1' + random.nextInt(9)));
+          case 1 -> builder.append(DIGIT_WORDS[random.nextInt(DIGIT_WORDS.length)]);
+          default -> builder.append((char) ('a' + random.nextInt(26)));
+        }
+      }
+
+      lines.accept(builder.toString());
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 7, {@code scale} is the number of hands.
+ */
+public class CamelCardsGenerator implements InputGenerator {
+
+  private static final String CARDS = "23456789TJQKA";
+  private static final int HAND_SIZE = 5;
+  private static final int MAX_BID = 1000;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var hand = new char[HAND_SIZE];
+    for (var i = 0; i < scale; i++) {
+      // Drawing from a smaller pool now and then gives a realistic share of strong hands.
+      final var pool = 1 + random.nextInt(CARDS.length());
+      final var offset = random.nextInt(CARDS.length() - pool + 1);
+      for (var c = 0; c < HAND_SIZE; c++) {
+        hand[c] = CARDS.charAt(offset + random.nextInt(pool));
+      }
+
+      lines.accept(new String(hand) + ' ' + (1 + random.nextInt(MAX_BID)));
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 11, {@code scale} is the side of the (square) image. Some rows and columns are kept empty
+ * so that expansion actually happens.
+ */
+public class CosmicExpansionGenerator implements InputGenerator {
+
+  private static final double GALAXY_PROBABILITY = 0.02;
+  private static final double EMPTY_LINE_PROBABILITY = 0.05;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var emptyColumns = new boolean[scale];
+    for (var c = 0; c < scale; c++) {
+      emptyColumns[c] = random.nextDouble() < EMPTY_LINE_PROBABILITY;
+    }
+
+    final var row = new char[scale];
+    for (var r = 0; r < scale; r++) {
+      Arrays.fill(row, '.');
+      if (random.nextDouble() >= EMPTY_LINE_PROBABILITY) {
+        for (var c = 0; c < scale; c++) {
+          if (!emptyColumns[c] && random.nextDouble() < GALAXY_PROBABILITY) {
+            row[c] = '#';
+          }
+        }
+      }
+
+      lines.accept(new String(row));
+    }
+  }
+}
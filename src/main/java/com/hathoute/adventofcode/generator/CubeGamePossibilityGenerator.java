@@ -0,0 +1,45 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 2, {@code scale} is the number of games.
+ */
+public class CubeGamePossibilityGenerator implements InputGenerator {
+
+  private static final List<String> COLOURS = List.of("red", "green", "blue");
+  private static final int MAX_ROUNDS = 6;
+  private static final int MAX_CUBES = 20;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var colours = new ArrayList<>(COLOURS);
+    final var builder = new StringBuilder();
+    for (var game = 1; game <= scale; game++) {
+      builder.setLength(0);
+      builder.append("Game ").append(game).append(": ");
+
+      final var rounds = 1 + random.nextInt(MAX_ROUNDS);
+      for (var round = 0; round < rounds; round++) {
+        if (round > 0) {
+          builder.append("; ");
+        }
+
+        Collections.shuffle(colours, random);
+        final var shown = 1 + random.nextInt(colours.size());
+        for (var c = 0; c < shown; c++) {
+          if (c > 0) {
+            builder.append(", ");
+          }
+          builder.append(1 + random.nextInt(MAX_CUBES)).append(' ').append(colours.get(c));
+        }
+      }
+
+      lines.accept(builder.toString());
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 3, {@code scale} is the number of rows of a schematic that is {@value #WIDTH} columns wide.
+ */
+public class GearRatiosGenerator implements InputGenerator {
+
+  private static final int WIDTH = 140;
+  private static final String SYMBOLS = "*#+$/@=%&-";
+  private static final double NUMBER_PROBABILITY = 0.12;
+  private static final double SYMBOL_PROBABILITY = 0.04;
+  private static final double GEAR_PROBABILITY = 0.4;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var row = new char[WIDTH];
+    for (var r = 0; r < scale; r++) {
+      var column = 0;
+      while (column < WIDTH) {
+        final var roll = random.nextDouble();
+        if (roll < NUMBER_PROBABILITY) {
+          final var digits = Math.min(1 + random.nextInt(3), WIDTH - column);
+          for (var d = 0; d < digits; d++) {
+            row[column++] = (char) ((d == 0 ? '1' + random.nextInt(9) : '0' + random.nextInt(10)));
+          }
+        } else if (roll < NUMBER_PROBABILITY + SYMBOL_PROBABILITY) {
+          row[column++] = random.nextDouble() < GEAR_PROBABILITY ? '*'
+              : SYMBOLS.charAt(random.nextInt(SYMBOLS.length()));
+        }
+
+        // Numbers are always followed by at least one dot so that two numbers never touch.
+        if (column < WIDTH) {
+          row[column++] = '.';
+        }
+      }
+
+      lines.accept(new String(row));
+    }
+  }
+}
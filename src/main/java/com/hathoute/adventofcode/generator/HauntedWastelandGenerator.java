@@ -0,0 +1,109 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.commons.math3.primes.Primes;
+
+/**
+ * Day 8, {@code scale} is the (approximate) number of nodes.
+ *
+ * <p>Like the actual inputs, every ghost starts on a node ending with {@code A} and enters a cycle
+ * whose length is a multiple of the instructions length, the only node ending with {@code Z}
+ * closing the cycle. The first ghost goes from {@code AAA} to {@code ZZZ}. Each node on a cycle is
+ * always left with the same instruction, the other direction leads to a decoy that is never
+ * walked.
+ */
+public class HauntedWastelandGenerator implements InputGenerator {
+
+  private static final int GHOSTS = 6;
+  private static final int CYCLE_CANDIDATES = 2 * GHOSTS;
+  private static final String ALPHABET =
+      "0123456789BCDEFGHIJKLMNOPQRSTUVWXYabcdefghijklmnopqrstuvwxyzAZ";
+  // The last two characters of the alphabet are reserved for start and finish nodes.
+  private static final int LAST_CHAR_CHOICES = ALPHABET.length() - 2;
+  private static final int MAX_NODES =
+      ALPHABET.length() * ALPHABET.length() * LAST_CHAR_CHOICES;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    if (scale > MAX_NODES) {
+      throw new IllegalArgumentException("At most %d nodes can be generated".formatted(MAX_NODES));
+    }
+
+    // Cycles are distinct primes (in sequence length units) whose product must fit in a long,
+    // so most of the size goes to the sequence length. They are drawn among the first primes
+    // past a bound growing with the scale, so that answers differ from seed to seed.
+    final var perGhost = Math.max(16, scale / GHOSTS);
+    final var candidates = new ArrayList<Integer>();
+    var prime = Primes.nextPrime((int) Math.pow(perGhost, 0.25));
+    while (candidates.size() < CYCLE_CANDIDATES) {
+      candidates.add(prime);
+      prime = Primes.nextPrime(prime + 1);
+    }
+    Collections.shuffle(candidates, random);
+    final var cycles = candidates.stream().limit(GHOSTS).mapToInt(Integer::intValue).toArray();
+    // The sequence length is yet another distinct prime, sized to spend the remaining nodes.
+    final var budget = GHOSTS * perGhost / Arrays.stream(cycles).sum();
+    var sequenceLength = Primes.nextPrime(Math.max(2, budget));
+    while (candidates.subList(0, GHOSTS).contains(sequenceLength)) {
+      sequenceLength = Primes.nextPrime(sequenceLength + 1);
+    }
+
+    final var sequence = new StringBuilder(sequenceLength);
+    for (var i = 0; i < sequenceLength; i++) {
+      sequence.append(random.nextBoolean() ? 'L' : 'R');
+    }
+
+    final var names = new NameGenerator(random);
+    final var nodes = new ArrayList<String[]>();
+    for (var g = 0; g < GHOSTS; g++) {
+      final var length = cycles[g] * sequenceLength;
+      final var path = new String[length + 1];
+      path[0] = g == 0 ? "AAA" : names.next('A');
+      for (var i = 1; i < length; i++) {
+        path[i] = names.next(ALPHABET.charAt(random.nextInt(LAST_CHAR_CHOICES)));
+      }
+      path[length] = g == 0 ? "ZZZ" : names.next('Z');
+
+      for (var i = 0; i <= length; i++) {
+        final var next = path[i == length ? 1 : i + 1];
+        nodes.add(new String[]{path[i], next, String.valueOf(sequence.charAt(i % sequenceLength))});
+      }
+    }
+
+    lines.accept(sequence.toString());
+    lines.accept("");
+
+    Collections.shuffle(nodes, random);
+    for (final var node : nodes) {
+      final var decoy = nodes.get(random.nextInt(nodes.size()))[0];
+      final var left = node[2].equals("L") ? node[1] : decoy;
+      final var right = node[2].equals("L") ? decoy : node[1];
+      lines.accept("%s = (%s, %s)".formatted(node[0], left, right));
+    }
+  }
+
+  private static final class NameGenerator {
+    private final Random random;
+    private final Set<String> used = new HashSet<>(List.of("AAA", "ZZZ"));
+
+    NameGenerator(final Random random) {
+      this.random = random;
+    }
+
+    String next(final char last) {
+      String name;
+      do {
+        name = "" + ALPHABET.charAt(random.nextInt(ALPHABET.length())) + ALPHABET.charAt(
+            random.nextInt(ALPHABET.length())) + last;
+      } while (!used.add(name));
+      return name;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Day 12, {@code scale} is the number of rows. Each row is drawn from an actual arrangement whose
+ * springs are then partially hidden, so it always has at least one valid arrangement.
+ */
+public class HotSpringsGenerator implements InputGenerator {
+
+  private static final int MAX_LENGTH = 20;
+  private static final int MAX_GROUP = 5;
+  private static final double UNKNOWN_PROBABILITY = 0.5;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var springs = new StringBuilder(MAX_LENGTH);
+    for (var i = 0; i < scale; i++) {
+      springs.setLength(0);
+      final var groups = new StringJoiner(",");
+      springs.append(".".repeat(random.nextInt(3)));
+
+      while (true) {
+        final var group = 1 + random.nextInt(MAX_GROUP);
+        if (springs.length() + group > MAX_LENGTH) {
+          break;
+        }
+
+        springs.append("#".repeat(group));
+        groups.add(String.valueOf(group));
+        if (springs.length() == MAX_LENGTH || random.nextInt(4) == 0) {
+          break;
+        }
+        springs.append(".".repeat(Math.min(1 + random.nextInt(3), MAX_LENGTH - springs.length())));
+      }
+
+      // Make sure there is at least one group.
+      if (groups.length() == 0) {
+        springs.setLength(0);
+        springs.append('#');
+        groups.add("1");
+      }
+
+      for (var c = 0; c < springs.length(); c++) {
+        if (random.nextDouble() < UNKNOWN_PROBABILITY) {
+          springs.setCharAt(c, '?');
+        }
+      }
+
+      lines.accept(springs + " " + groups);
+    }
+  }
+}
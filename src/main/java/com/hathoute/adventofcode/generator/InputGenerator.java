@@ -0,0 +1,44 @@
+package com.hathoute.adventofcode.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Produces valid puzzle inputs of arbitrary size. The meaning of {@code scale} is specific to each
+ * day (lines, grid side, ranges per map...), and the same seed always yields the same input.
+ */
+public interface InputGenerator {
+
+  void generate(Random random, int scale, Consumer<String> lines);
+
+  default List<String> generate(final long seed, final int scale) {
+    final var lines = new ArrayList<String>();
+    generate(new Random(seed), scale, lines::add);
+    return lines;
+  }
+
+  default void write(final Path path, final long seed, final int scale) {
+    try (final var writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+      generate(new Random(seed), scale, line -> writeLine(writer, line));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeLine(final BufferedWriter writer, final String line) {
+    try {
+      writer.write(line);
+      writer.write('\n');
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.hathoute.adventofcode.generator;
+
+import java.nio.file.Path;
+
+/**
+ * Generators by day, and a small command line to write generated inputs to disk.
+ *
+ * <pre>
+ * Usage: InputGenerators &lt;day&gt; &lt;scale&gt; &lt;seed&gt; &lt;output file&gt;
+ * </pre>
+ */
+public final class InputGenerators {
+
+  private InputGenerators() {
+  }
+
+  public static void main(final String[] args) {
+    if (args.length != 4) {
+      throw new IllegalArgumentException("Usage: InputGenerators <day> <scale> <seed> <output>");
+    }
+
+    final var generator = forDay(Integer.parseInt(args[0]));
+    generator.write(Path.of(args[3]), Long.parseLong(args[2]), Integer.parseInt(args[1]));
+  }
+
+  public static InputGenerator forDay(final int day) {
+    return switch (day) {
+      case 1 -> new CalibrationDocumentGenerator();
+      case 2 -> new CubeGamePossibilityGenerator();
+      case 3 -> new GearRatiosGenerator();
+      case 4 -> new ScratchcardsGenerator();
+      case 5 -> new SeedFertilizerGenerator();
+      case 6 -> new WaitForItGenerator();
+      case 7 -> new CamelCardsGenerator();
+      case 8 -> new HauntedWastelandGenerator();
+      case 9 -> new MirageMaintenanceGenerator();
+      case 10 -> new PipeMazeGenerator();
+      case 11 -> new CosmicExpansionGenerator();
+      case 12 -> new HotSpringsGenerator();
+      case 13 -> new PointOfIncidenceGenerator();
+      default -> throw new IllegalArgumentException("No generator for day " + day);
+    };
+  }
+}
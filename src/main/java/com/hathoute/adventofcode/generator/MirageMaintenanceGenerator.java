@@ -0,0 +1,38 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Day 9, {@code scale} is the number of histories. Each history samples a polynomial of a degree
+ * low enough for the differences to reach zero before running out of values.
+ */
+public class MirageMaintenanceGenerator implements InputGenerator {
+
+  private static final int VALUES = 21;
+  private static final int MAX_DEGREE = 10;
+  private static final int MAX_DIFFERENCE = 10;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var differences = new long[MAX_DEGREE + 1];
+    for (var i = 0; i < scale; i++) {
+      // differences[k] is the first value of the k-th difference sequence.
+      final var degree = random.nextInt(MAX_DEGREE + 1);
+      for (var k = 0; k <= MAX_DEGREE; k++) {
+        differences[k] = k <= degree ? random.nextInt(2 * MAX_DIFFERENCE + 1) - MAX_DIFFERENCE : 0;
+      }
+
+      final var joiner = new StringJoiner(" ");
+      for (var v = 0; v < VALUES; v++) {
+        joiner.add(String.valueOf(differences[0]));
+        for (var k = 0; k < degree; k++) {
+          differences[k] += differences[k + 1];
+        }
+      }
+
+      lines.accept(joiner.toString());
+    }
+  }
+}
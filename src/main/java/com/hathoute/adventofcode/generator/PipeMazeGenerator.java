@@ -0,0 +1,190 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 10, {@code scale} is the side of the (square) maze.
+ *
+ * <p>The loop is built from a random spanning tree over 2x2 blocks: each block is a small loop of
+ * four pipes, and every tree edge merges the loops of the two blocks it connects. Since the blocks
+ * form a tree, the result is a single loop. Some blocks are kept out of the tree to vary its shape.
+ * That loop visits every tile of its blocks, so it is then scaled up by two: the tiles that fall
+ * between the scaled pipes are the ones enclosed by the loop. Every tile outside the loop is junk,
+ * except around {@code S} where junk could look connected.
+ */
+public class PipeMazeGenerator implements InputGenerator {
+
+  private static final int NORTH = 1;
+  private static final int SOUTH = 2;
+  private static final int EAST = 4;
+  private static final int WEST = 8;
+
+  private static final double HOLE_PROBABILITY = 0.15;
+  private static final String JUNK = "......|-LJ7F";
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    if (scale < 4) {
+      throw new IllegalArgumentException("Maze must be at least 4x4");
+    }
+
+    final var loop = new int[scale / 2][scale / 2];
+    buildLoop(random, scale / 4, loop);
+
+    final var connections = new int[scale][scale];
+    for (var r = 0; r < loop.length; r++) {
+      for (var c = 0; c < loop.length; c++) {
+        connections[2 * r][2 * c] = loop[r][c];
+        if ((loop[r][c] & EAST) != 0) {
+          connections[2 * r][2 * c + 1] = EAST | WEST;
+        }
+        if ((loop[r][c] & SOUTH) != 0) {
+          connections[2 * r + 1][2 * c] = NORTH | SOUTH;
+        }
+      }
+    }
+
+    final var tiles = new char[scale][scale];
+    var loopTiles = 0;
+    for (var r = 0; r < scale; r++) {
+      for (var c = 0; c < scale; c++) {
+        tiles[r][c] = connections[r][c] == 0 ? JUNK.charAt(random.nextInt(JUNK.length()))
+            : pipeOf(connections[r][c]);
+        loopTiles += connections[r][c] == 0 ? 0 : 1;
+      }
+    }
+
+    placeStart(random, tiles, connections, loopTiles);
+
+    for (final var row : tiles) {
+      lines.accept(new String(row));
+    }
+  }
+
+  private static void buildLoop(final Random random, final int blocks, final int[][] connections) {
+    final var inBlob = new boolean[blocks][blocks];
+    final var holes = new boolean[blocks][blocks];
+    for (final var row : holes) {
+      for (var c = 0; c < row.length; c++) {
+        row[c] = random.nextDouble() < HOLE_PROBABILITY;
+      }
+    }
+    final var frontier = new ArrayList<int[]>();
+
+    // Randomized Prim: every block joining the blob is attached to exactly one blob neighbour.
+    final var first = new int[]{random.nextInt(blocks), random.nextInt(blocks), -1, -1};
+    holes[first[0]][first[1]] = false;
+    frontier.add(first);
+    while (!frontier.isEmpty()) {
+      final var index = random.nextInt(frontier.size());
+      final var candidate = frontier.get(index);
+      frontier.set(index, frontier.get(frontier.size() - 1));
+      frontier.remove(frontier.size() - 1);
+
+      final var r = candidate[0];
+      final var c = candidate[1];
+      if (inBlob[r][c] || holes[r][c]) {
+        continue;
+      }
+
+      inBlob[r][c] = true;
+      addBlock(connections, r, c);
+      if (candidate[2] >= 0) {
+        mergeBlocks(connections, candidate[2], candidate[3], r, c);
+      }
+
+      for (final var offset : new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}}) {
+        final var nr = r + offset[0];
+        final var nc = c + offset[1];
+        if (nr >= 0 && nr < blocks && nc >= 0 && nc < blocks && !inBlob[nr][nc]) {
+          frontier.add(new int[]{nr, nc, r, c});
+        }
+      }
+    }
+  }
+
+  private static void addBlock(final int[][] connections, final int r, final int c) {
+    final var top = 2 * r;
+    final var left = 2 * c;
+    connections[top][left] = SOUTH | EAST;
+    connections[top][left + 1] = SOUTH | WEST;
+    connections[top + 1][left] = NORTH | EAST;
+    connections[top + 1][left + 1] = NORTH | WEST;
+  }
+
+  private static void mergeBlocks(final int[][] connections, final int r1, final int c1,
+      final int r2, final int c2) {
+    if (r1 == r2) {
+      // Horizontal neighbours: open the facing sides and join the two loops.
+      final var leftBlock = Math.min(c1, c2);
+      final var top = 2 * r1;
+      final var column = 2 * leftBlock + 1;
+      connections[top][column] ^= SOUTH | EAST;
+      connections[top + 1][column] ^= NORTH | EAST;
+      connections[top][column + 1] ^= SOUTH | WEST;
+      connections[top + 1][column + 1] ^= NORTH | WEST;
+    } else {
+      final var topBlock = Math.min(r1, r2);
+      final var row = 2 * topBlock + 1;
+      final var left = 2 * c1;
+      connections[row][left] ^= EAST | SOUTH;
+      connections[row][left + 1] ^= WEST | SOUTH;
+      connections[row + 1][left] ^= EAST | NORTH;
+      connections[row + 1][left + 1] ^= WEST | NORTH;
+    }
+  }
+
+  private static void placeStart(final Random random, final char[][] tiles,
+      final int[][] connections, final int loopTiles) {
+    var remaining = random.nextInt(loopTiles);
+    for (var r = 0; r < tiles.length; r++) {
+      for (var c = 0; c < tiles[r].length; c++) {
+        if (connections[r][c] != 0 && remaining-- == 0) {
+          tiles[r][c] = 'S';
+          clearJunk(tiles, connections, r - 1, c, SOUTH);
+          clearJunk(tiles, connections, r + 1, c, NORTH);
+          clearJunk(tiles, connections, r, c + 1, WEST);
+          clearJunk(tiles, connections, r, c - 1, EAST);
+          return;
+        }
+      }
+    }
+  }
+
+  private static void clearJunk(final char[][] tiles, final int[][] connections, final int r,
+      final int c, final int towardsStart) {
+    if (r < 0 || r >= tiles.length || c < 0 || c >= tiles[r].length || connections[r][c] != 0) {
+      return;
+    }
+
+    if ((connectionsOf(tiles[r][c]) & towardsStart) != 0) {
+      tiles[r][c] = '.';
+    }
+  }
+
+  private static char pipeOf(final int connections) {
+    return switch (connections) {
+      case NORTH | SOUTH -> '|';
+      case EAST | WEST -> '-';
+      case NORTH | EAST -> 'L';
+      case NORTH | WEST -> 'J';
+      case SOUTH | WEST -> '7';
+      case SOUTH | EAST -> 'F';
+      default -> throw new IllegalStateException("Not a pipe: " + connections);
+    };
+  }
+
+  private static int connectionsOf(final char pipe) {
+    return switch (pipe) {
+      case '|' -> NORTH | SOUTH;
+      case '-' -> EAST | WEST;
+      case 'L' -> NORTH | EAST;
+      case 'J' -> NORTH | WEST;
+      case '7' -> SOUTH | WEST;
+      case 'F' -> SOUTH | EAST;
+      default -> 0;
+    };
+  }
+}
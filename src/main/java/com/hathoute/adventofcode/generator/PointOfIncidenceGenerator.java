@@ -0,0 +1,114 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 13, {@code scale} is the number of patterns.
+ *
+ * <p>A pattern is first made perfectly symmetric along a horizontal line (part 1) and a vertical
+ * line (part 2). One cell, mirrored by the vertical line but not by the horizontal one, is then
+ * flipped: the horizontal line stays a perfect reflection while the vertical one is off by exactly
+ * one smudge. Patterns with accidental extra reflections are drawn again, and half of them are
+ * transposed so both orientations show up for both parts.
+ */
+public class PointOfIncidenceGenerator implements InputGenerator {
+
+  private static final int MIN_SIZE = 5;
+  private static final int MAX_SIZE = 17;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    for (var i = 0; i < scale; i++) {
+      if (i > 0) {
+        lines.accept("");
+      }
+
+      boolean[][] pattern;
+      do {
+        pattern = draw(random);
+      } while (!isValid(pattern));
+
+      if (random.nextBoolean()) {
+        pattern = transpose(pattern);
+      }
+
+      for (final var row : pattern) {
+        final var chars = new char[row.length];
+        for (var c = 0; c < row.length; c++) {
+          chars[c] = row[c] ? '#' : '.';
+        }
+        lines.accept(new String(chars));
+      }
+    }
+  }
+
+  private static boolean[][] draw(final Random random) {
+    final var height = MIN_SIZE + random.nextInt(MAX_SIZE - MIN_SIZE + 1);
+    final var width = MIN_SIZE + random.nextInt(MAX_SIZE - MIN_SIZE + 1);
+    // Reflection lines lie between rows (columns) line - 1 and line. The horizontal one stays in
+    // the upper half so that the bottom rows are not mirrored and can hold the smudge.
+    final var horizontal = 1 + random.nextInt((height - 1) / 2);
+    final var vertical = 1 + random.nextInt(width - 1);
+
+    final var pattern = new boolean[height][width];
+    for (var r = 0; r < height; r++) {
+      for (var c = 0; c < width; c++) {
+        final var sourceRow = mirror(r, horizontal, height);
+        final var sourceColumn = mirror(c, vertical, width);
+        pattern[r][c] = sourceRow == r && sourceColumn == c ? random.nextBoolean()
+            : pattern[sourceRow][sourceColumn];
+      }
+    }
+
+    // The smudge: a row beyond the horizontal reflection, a column within the vertical one.
+    final var row = 2 * horizontal + random.nextInt(height - 2 * horizontal);
+    final var span = Math.min(vertical, width - vertical);
+    final var column = vertical - span + random.nextInt(2 * span);
+    pattern[row][column] = !pattern[row][column];
+    return pattern;
+  }
+
+  /**
+   * Folds an index onto the lower side of a reflection line, as long as it is mirrored.
+   */
+  private static int mirror(final int index, final int line, final int size) {
+    final var span = Math.min(line, size - line);
+    if (index >= line && index < line + span) {
+      return 2 * line - 1 - index;
+    }
+    return index;
+  }
+
+  private static boolean isValid(final boolean[][] pattern) {
+    final var transposed = transpose(pattern);
+    return countLines(pattern, 0) + countLines(transposed, 0) == 1
+        && countLines(pattern, 1) + countLines(transposed, 1) == 1;
+  }
+
+  private static int countLines(final boolean[][] pattern, final int smudges) {
+    var count = 0;
+    for (var line = 1; line < pattern.length; line++) {
+      var differences = 0;
+      for (var offset = 0; line - 1 - offset >= 0 && line + offset < pattern.length; offset++) {
+        final var upper = pattern[line - 1 - offset];
+        final var lower = pattern[line + offset];
+        for (var c = 0; c < upper.length; c++) {
+          differences += upper[c] == lower[c] ? 0 : 1;
+        }
+      }
+      count += differences == smudges ? 1 : 0;
+    }
+    return count;
+  }
+
+  private static boolean[][] transpose(final boolean[][] pattern) {
+    final var transposed = new boolean[pattern[0].length][pattern.length];
+    for (var r = 0; r < pattern.length; r++) {
+      for (var c = 0; c < pattern[r].length; c++) {
+        transposed[c][r] = pattern[r][c];
+      }
+    }
+    return transposed;
+  }
+}
@@ -0,0 +1,58 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Day 4, {@code scale} is the number of cards. Cards win on average less than one copy, otherwise
+ * the number of instances in part 2 grows exponentially with the number of cards. A card never
+ * wins copies past the end of the table.
+ */
+public class ScratchcardsGenerator implements InputGenerator {
+
+  private static final int WINNING_NUMBERS = 10;
+  private static final int PLAYER_NUMBERS = 25;
+  private static final int MAX_NUMBER = 99;
+  private static final double WINNING_CARD_PROBABILITY = 0.2;
+  private static final int MAX_MATCHES = 4;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var numbers = new ArrayList<>(IntStream.rangeClosed(1, MAX_NUMBER).boxed().toList());
+    final var idWidth = String.valueOf(scale).length();
+    final var builder = new StringBuilder();
+
+    for (var card = 1; card <= scale; card++) {
+      final var matches = random.nextDouble() < WINNING_CARD_PROBABILITY ? Math.min(
+          1 + random.nextInt(MAX_MATCHES), scale - card) : 0;
+
+      // The first WINNING_NUMBERS are the winning ones, the player gets 'matches' of them and
+      // fills the rest with numbers that come after.
+      Collections.shuffle(numbers, random);
+      final var player = new ArrayList<>(numbers.subList(0, matches));
+      player.addAll(numbers.subList(WINNING_NUMBERS, WINNING_NUMBERS + PLAYER_NUMBERS - matches));
+      Collections.shuffle(player, random);
+
+      builder.setLength(0);
+      builder.append("Card ").append(pad(card, idWidth)).append(':');
+      appendNumbers(builder, numbers.subList(0, WINNING_NUMBERS));
+      builder.append(" |");
+      appendNumbers(builder, player);
+      lines.accept(builder.toString());
+    }
+  }
+
+  private static void appendNumbers(final StringBuilder builder, final List<Integer> numbers) {
+    for (final var number : numbers) {
+      builder.append(' ').append(pad(number, 2));
+    }
+  }
+
+  private static String pad(final int number, final int width) {
+    return " ".repeat(width - String.valueOf(number).length()) + number;
+  }
+}
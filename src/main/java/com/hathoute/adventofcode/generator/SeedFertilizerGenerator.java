@@ -0,0 +1,72 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Day 5, {@code scale} is the number of ranges per map, as well as the number of seed ranges.
+ * Source ranges of a map never overlap, a small share of the space is left unmapped.
+ */
+public class SeedFertilizerGenerator implements InputGenerator {
+
+  private static final List<String> CATEGORIES = List.of("seed", "soil", "fertilizer", "water",
+      "light", "temperature", "humidity", "location");
+  private static final long MAX_VALUE = 1L << 32;
+  private static final double UNMAPPED_PROBABILITY = 0.1;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var maxSeedLength = Math.max(1, MAX_VALUE / (4L * scale));
+    lines.accept("seeds: " + LongStream.range(0, scale)
+                                       .flatMap(i -> LongStream.of(
+                                           nextLong(random, MAX_VALUE - maxSeedLength),
+                                           1 + nextLong(random, maxSeedLength)))
+                                       .mapToObj(String::valueOf)
+                                       .collect(Collectors.joining(" ")));
+
+    for (var i = 0; i + 1 < CATEGORIES.size(); i++) {
+      lines.accept("");
+      lines.accept("%s-to-%s map:".formatted(CATEGORIES.get(i), CATEGORIES.get(i + 1)));
+      generateMap(random, scale, lines);
+    }
+  }
+
+  private static void generateMap(final Random random, final int scale,
+      final Consumer<String> lines) {
+    final var cuts = LongStream.concat(LongStream.of(0, MAX_VALUE),
+                                   LongStream.generate(() -> 1 + nextLong(random, MAX_VALUE - 1))
+                                             .limit(scale - 1L))
+                               .sorted()
+                               .distinct()
+                               .toArray();
+
+    final var segments = new ArrayList<long[]>(cuts.length - 1);
+    for (var i = 0; i + 1 < cuts.length; i++) {
+      segments.add(new long[]{cuts[i], cuts[i + 1] - cuts[i]});
+    }
+
+    // Destinations are the same segments laid out in a random order.
+    final var destinations = new ArrayList<>(segments);
+    Collections.shuffle(destinations, random);
+    final var mapping = new ArrayList<String>(segments.size());
+    var destination = 0L;
+    for (final var segment : destinations) {
+      if (random.nextDouble() >= UNMAPPED_PROBABILITY) {
+        mapping.add("%d %d %d".formatted(destination, segment[0], segment[1]));
+      }
+      destination += segment[1];
+    }
+
+    Collections.shuffle(mapping, random);
+    mapping.forEach(lines);
+  }
+
+  private static long nextLong(final Random random, final long bound) {
+    return (long) (random.nextDouble() * bound);
+  }
+}
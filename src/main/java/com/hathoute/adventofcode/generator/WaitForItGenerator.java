@@ -0,0 +1,39 @@
+package com.hathoute.adventofcode.generator;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 6, {@code scale} is the number of races. Every record can be beaten at least once. Note that
+ * part 2 reads the concatenated race as a long, so it fails with an {@link ArithmeticException}
+ * past about five races (the concatenated distance no longer fits).
+ */
+public class WaitForItGenerator implements InputGenerator {
+
+  private static final int MIN_TIME = 7;
+  private static final int MAX_TIME = 100;
+
+  @Override
+  public void generate(final Random random, final int scale, final Consumer<String> lines) {
+    final var times = new StringBuilder("Time:    ");
+    final var distances = new StringBuilder("Distance:");
+    for (var race = 0; race < scale; race++) {
+      final var time = MIN_TIME + random.nextInt(MAX_TIME - MIN_TIME);
+      // Best distance is reached by holding the button half of the time.
+      final var bestDistance = (long) (time / 2) * (time - time / 2);
+      final var distance = (long) (random.nextDouble() * bestDistance);
+
+      final var width = Math.max(String.valueOf(time).length(),
+          String.valueOf(distance).length()) + 2;
+      times.append(pad(time, width));
+      distances.append(pad(distance, width));
+    }
+
+    lines.accept(times.toString());
+    lines.accept(distances.toString());
+  }
+
+  private static String pad(final long number, final int width) {
+    return " ".repeat(width - String.valueOf(number).length()) + number;
+  }
+}
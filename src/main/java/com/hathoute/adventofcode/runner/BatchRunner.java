@@ -0,0 +1,87 @@
+package com.hathoute.adventofcode.runner;
+
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Runs a batch of puzzles concurrently: inputs are loaded on an unbounded I/O pool, each file only
+ * once even when several parts share it, and solving happens on a pool bounded by the number of
+ * cores. Results are returned in the order of the given definitions.
+ */
+public final class BatchRunner implements AutoCloseable {
+
+  private final ExecutorService loaders = Executors.newCachedThreadPool(daemonThreads("loader"));
+  private final ExecutorService solvers;
+  private final int solverThreads;
+
+  public BatchRunner() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  public BatchRunner(final int solverThreads) {
+    if (solverThreads <= 0) {
+      throw new IllegalArgumentException("At least one solver thread is required");
+    }
+
+    this.solverThreads = solverThreads;
+    this.solvers = Executors.newFixedThreadPool(solverThreads, daemonThreads("solver"));
+  }
+
+  public int solverThreads() {
+    return solverThreads;
+  }
+
+  public <T> BatchResult<T> run(final Collection<PuzzleDefinition> definitions,
+      final BiFunction<PuzzleDefinition, List<String>, T> task) {
+    final var start = System.nanoTime();
+    final Map<String, CompletableFuture<List<String>>> inputs = new ConcurrentHashMap<>();
+
+    final var futures = definitions.stream()
+                                   .map(definition -> inputs.computeIfAbsent(
+                                       definition.inputPath(), this::load).thenApplyAsync(
+                                       input -> task.apply(definition, input), solvers))
+                                   .toList();
+
+    try {
+      final var results = futures.stream().map(CompletableFuture::join).toList();
+      return new BatchResult<>(results, System.nanoTime() - start);
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<List<String>> load(final String inputPath) {
+    return CompletableFuture.supplyAsync(() -> PuzzleUtils.readLinesFromFile(inputPath), loaders);
+  }
+
+  @Override
+  public void close() {
+    loaders.shutdown();
+    solvers.shutdown();
+  }
+
+  private static ThreadFactory daemonThreads(final String prefix) {
+    final var counter = new AtomicInteger();
+    return runnable -> {
+      final var thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  public record BatchResult<T>(List<T> results, long wallNanos) {
+  }
+}
@@ -0,0 +1,100 @@
+package com.hathoute.adventofcode.runner;
+
+import static java.util.Comparator.comparingInt;
+
+import com.hathoute.adventofcode.PuzzleMetrics;
+import com.hathoute.adventofcode.PuzzleMetrics.PhaseReport;
+import com.hathoute.adventofcode.PuzzleMetrics.Report;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Collects one {@link Report} per puzzle and exports them as a JSON array, one object per puzzle
+ * with its total, its phases and its event counters. Puzzles are exported by day and part,
+ * whatever the order they were added in. {@code pooled} figures include common pool workers,
+ * possibly shared with other puzzles in a batch (see {@link PuzzleMetrics}).
+ */
+public final class MetricsExporter {
+
+  private static final Comparator<Entry> ORDER = comparingInt(
+      (Entry e) -> e.definition.day()).thenComparingInt(e -> e.definition.part());
+
+  private final List<Entry> entries = new ArrayList<>();
+
+  public synchronized void add(final PuzzleDefinition definition, final Report report) {
+    entries.add(new Entry(definition, report));
+  }
+
+  public synchronized String toJson() {
+    return entries.stream()
+                  .sorted(ORDER)
+                  .map(MetricsExporter::toJson)
+                  .collect(Collectors.joining(",\n", "[\n", "\n]\n"));
+  }
+
+  public void write(final Path path) {
+    try {
+      Files.writeString(path, toJson());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String toJson(final Entry entry) {
+    final var report = entry.report;
+    final var phases = report.phases()
+                             .stream()
+                             .map(MetricsExporter::toJson)
+                             .collect(Collectors.joining(", ", "[", "]"));
+    final var counters = new TreeMap<>(report.counters()).entrySet()
+                                                         .stream()
+                                                         .map(MetricsExporter::toJson)
+                                                         .collect(
+                                                             Collectors.joining(", ", "{", "}"));
+
+    return "  {\"puzzle\": %s, \"result\": %s, \"total\": %s, \"phases\": %s, \"counters\": %s}"
+        .formatted(quote(entry.definition.name()), quote(report.result()), toJson(report.total()),
+            phases, counters);
+  }
+
+  private static String toJson(final PhaseReport phase) {
+    return ("{\"name\": %s, \"wallNanos\": %d, \"cpuNanos\": %d, \"allocatedBytes\": %d, "
+        + "\"pooled\": %b}").formatted(quote(phase.name()), phase.wallNanos(), phase.cpuNanos(),
+        phase.allocatedBytes(), phase.pooled());
+  }
+
+  private static String toJson(final Map.Entry<String, Long> counter) {
+    return "%s: %d".formatted(quote(counter.getKey()), counter.getValue());
+  }
+
+  private static String quote(final String value) {
+    final var builder = new StringBuilder(value.length() + 2).append('"');
+    for (final var c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> builder.append("\\\"");
+        case '\\' -> builder.append("\\\\");
+        case '\n' -> builder.append("\\n");
+        default -> {
+          if (c < 0x20) {
+            builder.append("\\u%04x".formatted((int) c));
+          } else {
+            builder.append(c);
+          }
+        }
+      }
+    }
+
+    return builder.append('"').toString();
+  }
+
+  private record Entry(PuzzleDefinition definition, Report report) {
+  }
+}
@@ -0,0 +1,35 @@
+package com.hathoute.adventofcode.runner;
+
+import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
+import java.lang.reflect.InvocationTargetException;
+
+public record PuzzleDefinition(int day, int part, String inputPath, int version,
+                               Class<? extends AdventOfCodePuzzle> type) {
+
+  static PuzzleDefinition of(final Class<? extends AdventOfCodePuzzle> type) {
+    final var annotation = type.getAnnotation(Puzzle.class);
+    if (annotation == null) {
+      throw new IllegalArgumentException(type.getName() + " is not annotated with @Puzzle");
+    }
+
+    return new PuzzleDefinition(annotation.day(), annotation.part(), annotation.input(),
+        annotation.version(), type);
+  }
+
+  public AdventOfCodePuzzle newInstance() {
+    try {
+      // Solvers are package-private nested classes, hence the setAccessible.
+      final var constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return constructor.newInstance();
+    } catch (final NoSuchMethodException | InstantiationException | IllegalAccessException
+                   | InvocationTargetException e) {
+      throw new IllegalStateException("Cannot instantiate " + type.getName(), e);
+    }
+  }
+
+  public String name() {
+    return "day%d/part%d".formatted(day, part);
+  }
+}
@@ -0,0 +1,67 @@
+package com.hathoute.adventofcode.runner;
+
+import static java.util.Comparator.comparingInt;
+
+import com.google.common.reflect.ClassPath;
+import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import com.hathoute.adventofcode.Puzzle;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Discovers every {@link AdventOfCodePuzzle} annotated with {@link Puzzle} under the root package.
+ */
+public final class PuzzleRegistry {
+
+  private static final String ROOT_PACKAGE = "com.hathoute.adventofcode";
+  private static final Comparator<PuzzleDefinition> ORDER = comparingInt(
+      PuzzleDefinition::day).thenComparingInt(PuzzleDefinition::part);
+
+  private final List<PuzzleDefinition> definitions;
+
+  private PuzzleRegistry(final List<PuzzleDefinition> definitions) {
+    this.definitions = definitions;
+  }
+
+  public static PuzzleRegistry discover() {
+    final var loader = PuzzleRegistry.class.getClassLoader();
+    try {
+      final var definitions = ClassPath.from(loader)
+                                       .getAllClasses()
+                                       .stream()
+                                       .filter(c -> c.getPackageName().startsWith(ROOT_PACKAGE))
+                                       .map(ClassPath.ClassInfo::load)
+                                       .filter(c -> c.isAnnotationPresent(Puzzle.class))
+                                       .filter(AdventOfCodePuzzle.class::isAssignableFrom)
+                                       .map(c -> c.asSubclass(AdventOfCodePuzzle.class))
+                                       .map(PuzzleDefinition::of)
+                                       .sorted(ORDER)
+                                       .toList();
+      return new PuzzleRegistry(definitions);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public List<PuzzleDefinition> definitions() {
+    return definitions;
+  }
+
+  /**
+   * Empty sets act as wildcards.
+   */
+  public List<PuzzleDefinition> select(final Set<Integer> days, final Set<Integer> parts) {
+    return definitions.stream()
+                      .filter(d -> days.isEmpty() || days.contains(d.day()))
+                      .filter(d -> parts.isEmpty() || parts.contains(d.part()))
+                      .toList();
+  }
+
+  public Optional<PuzzleDefinition> find(final int day, final int part) {
+    return definitions.stream().filter(d -> d.day() == day && d.part() == part).findFirst();
+  }
+}
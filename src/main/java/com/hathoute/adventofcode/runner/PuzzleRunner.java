@@ -0,0 +1,179 @@
+package com.hathoute.adventofcode.runner;
+
+import com.hathoute.adventofcode.PuzzleMetrics;
+import com.hathoute.adventofcode.PuzzleUtils;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Runs any subset of the registered puzzles inside a single JVM, reporting the cold (first) solve
+ * latency and the warm latency measured after a configurable amount of warm-up iterations.
+ * With {@code --metrics}, every puzzle is solved once more under {@link PuzzleMetrics} and the
+ * reports are written to the given JSON file. With {@code --threads}, puzzles are run concurrently
+ * through a {@link BatchRunner} (timings then include contention between puzzles). With
+ * {@code --cache}, answers go through a {@link ResultCache} stored in the given directory, which
+ * {@code --no-cache} bypasses.
+ *
+ * <pre>
+ * Usage: PuzzleRunner [--day 1,2,...] [--part 1,2] [--warmup N] [--iterations N]
+ *                     [--metrics FILE] [--threads N]
+ *                     [--cache DIR [--cache-size BYTES] [--no-cache]]
+ * </pre>
+ */
+public final class PuzzleRunner {
+
+  private static final int DEFAULT_WARMUP = 5;
+  private static final int DEFAULT_ITERATIONS = 10;
+  private static final long DEFAULT_CACHE_SIZE = 16L << 20;
+
+  private final int warmupIterations;
+  private final int measurementIterations;
+  private final ResultCache cache;
+
+  public PuzzleRunner(final int warmupIterations, final int measurementIterations) {
+    this(warmupIterations, measurementIterations, null);
+  }
+
+  /**
+   * @param cache Answers cache to solve through, or {@code null} to always solve.
+   */
+  public PuzzleRunner(final int warmupIterations, final int measurementIterations,
+      final ResultCache cache) {
+    if (warmupIterations < 0 || measurementIterations < 0) {
+      throw new IllegalArgumentException("Iterations cannot be negative");
+    }
+
+    this.warmupIterations = warmupIterations;
+    this.measurementIterations = measurementIterations;
+    this.cache = cache;
+  }
+
+  public static void main(final String[] args) {
+    final var options = Options.parse(args);
+    final var registry = PuzzleRegistry.discover();
+    final var cache = options.cache == null ? null
+        : new ResultCache(options.cache, options.cacheSize, options.bypassCache);
+    final var runner = new PuzzleRunner(options.warmup, options.iterations, cache);
+
+    final var metrics = new MetricsExporter();
+    final BiFunction<PuzzleDefinition, List<String>, PuzzleTiming> task = (definition, input) -> {
+      final var timing = runner.run(definition, input);
+      if (options.metrics != null) {
+        metrics.add(definition, runner.record(definition, input));
+      }
+      return timing;
+    };
+
+    final var definitions = registry.select(options.days, options.parts);
+    if (options.threads > 0) {
+      try (final var batch = new BatchRunner(options.threads)) {
+        final var result = batch.run(definitions, task);
+        result.results().stream().map(PuzzleTiming::format).forEach(System.out::println);
+        System.out.printf("Batch of %d puzzles on %d threads: %.3f ms wall, %.3f ms summed cold%n",
+            definitions.size(), batch.solverThreads(), result.wallNanos() / 1e6,
+            result.results().stream().mapToLong(PuzzleTiming::coldNanos).sum() / 1e6);
+      }
+    } else {
+      for (final var definition : definitions) {
+        final var input = PuzzleUtils.readLinesFromFile(definition.inputPath());
+        System.out.println(task.apply(definition, input).format());
+      }
+    }
+
+    if (options.metrics != null) {
+      metrics.write(options.metrics);
+    }
+
+    if (cache != null) {
+      System.out.printf("Result cache: %d hits, %d misses%n", cache.hits(), cache.misses());
+    }
+  }
+
+  public PuzzleTiming run(final PuzzleDefinition definition) {
+    return run(definition, PuzzleUtils.readLinesFromFile(definition.inputPath()));
+  }
+
+  public PuzzleTiming run(final PuzzleDefinition definition, final List<String> input) {
+    final var puzzle = cache == null ? definition.newInstance() : cache.wrap(definition);
+
+    var start = System.nanoTime();
+    final var result = puzzle.solve(input);
+    final var coldNanos = System.nanoTime() - start;
+
+    for (var i = 0; i < warmupIterations; i++) {
+      puzzle.solve(input);
+    }
+
+    final var warmNanos = new long[measurementIterations];
+    for (var i = 0; i < measurementIterations; i++) {
+      start = System.nanoTime();
+      puzzle.solve(input);
+      warmNanos[i] = System.nanoTime() - start;
+    }
+
+    return new PuzzleTiming(definition, result, coldNanos, warmNanos);
+  }
+
+  /**
+   * Solves the puzzle once with {@link PuzzleMetrics} recording phases and counters.
+   */
+  public PuzzleMetrics.Report record(final PuzzleDefinition definition, final List<String> input) {
+    final var puzzle = definition.newInstance();
+    return PuzzleMetrics.record(() -> puzzle.solve(input));
+  }
+
+  private static final class Options {
+    private final Set<Integer> days = new HashSet<>();
+    private final Set<Integer> parts = new HashSet<>();
+    private int warmup = DEFAULT_WARMUP;
+    private int iterations = DEFAULT_ITERATIONS;
+    private Path metrics;
+    private int threads = 0;
+    private Path cache;
+    private long cacheSize = DEFAULT_CACHE_SIZE;
+    private boolean bypassCache = false;
+
+    static Options parse(final String[] args) {
+      final var options = new Options();
+      for (var i = 0; i < args.length; i++) {
+        final var value = i + 1 < args.length ? args[i + 1] : null;
+        switch (args[i]) {
+          case "--day" -> options.days.addAll(parseList(value));
+          case "--part" -> options.parts.addAll(parseList(value));
+          case "--warmup" -> options.warmup = Integer.parseInt(requireValue(value));
+          case "--iterations" -> options.iterations = Integer.parseInt(requireValue(value));
+          case "--metrics" -> options.metrics = Path.of(requireValue(value));
+          case "--threads" -> options.threads = Integer.parseInt(requireValue(value));
+          case "--cache" -> options.cache = Path.of(requireValue(value));
+          case "--cache-size" -> options.cacheSize = Long.parseLong(requireValue(value));
+          case "--no-cache" -> {
+            options.bypassCache = true;
+            continue;
+          }
+          default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+        i++;
+      }
+      if (options.bypassCache && options.cache == null) {
+        throw new IllegalArgumentException("--no-cache requires --cache");
+      }
+
+      return options;
+    }
+
+    private static List<Integer> parseList(final String value) {
+      return PuzzleUtils.ints(requireValue(value)).boxed().toList();
+    }
+
+    private static String requireValue(final String value) {
+      if (value == null) {
+        throw new IllegalArgumentException("Missing option value");
+      }
+
+      return value;
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.hathoute.adventofcode.runner;
+
+import java.util.Arrays;
+
+/**
+ * Result of running a puzzle: the cold (first) solve and the warm measurement iterations, all in
+ * nanoseconds.
+ */
+public record PuzzleTiming(PuzzleDefinition definition, String result, long coldNanos,
+                           long[] warmNanos) {
+
+  public double warmAverageNanos() {
+    return Arrays.stream(warmNanos).average().orElse(Double.NaN);
+  }
+
+  public long warmMinNanos() {
+    return Arrays.stream(warmNanos).min().orElse(-1);
+  }
+
+  public String format() {
+    return "%-13s | %-18s | cold %10.3f ms | warm avg %10.3f ms, min %10.3f ms (%d runs)".formatted(
+        definition.name(), result, coldNanos / 1e6, warmAverageNanos() / 1e6,
+        warmMinNanos() / 1e6, warmNanos.length);
+  }
+}
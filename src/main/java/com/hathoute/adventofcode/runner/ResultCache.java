@@ -0,0 +1,161 @@
+package com.hathoute.adventofcode.runner;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.hathoute.adventofcode.AdventOfCodePuzzle;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of puzzle answers, keyed by the SHA-256 of the solver class, its
+ * {@link com.hathoute.adventofcode.Puzzle#version()} and the input lines. Every entry is a file
+ * named after its key, whose modification time serves as last access: once the directory grows
+ * past {@code maxBytes}, least recently used entries are evicted.
+ *
+ * <p>A bypassed cache never reads nor writes, so that timings measure actual solves.
+ */
+public final class ResultCache {
+
+  private static final String ENTRY_SUFFIX = ".result";
+
+  private final Path directory;
+  private final long maxBytes;
+  private final boolean bypass;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public ResultCache(final Path directory, final long maxBytes, final boolean bypass) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Cache size must be positive");
+    }
+
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+    this.bypass = bypass;
+  }
+
+  /**
+   * A puzzle answering from the cache when possible, solving (and caching) with a new instance of
+   * the definition otherwise.
+   */
+  public AdventOfCodePuzzle wrap(final PuzzleDefinition definition) {
+    final var puzzle = definition.newInstance();
+    if (bypass) {
+      return puzzle;
+    }
+
+    return input -> {
+      final var key = key(definition, input);
+      final var cached = get(key);
+      if (cached.isPresent()) {
+        hits.incrementAndGet();
+        return cached.get();
+      }
+
+      misses.incrementAndGet();
+      final var result = puzzle.solve(input);
+      put(key, result);
+      return result;
+    };
+  }
+
+  public long hits() {
+    return hits.get();
+  }
+
+  public long misses() {
+    return misses.get();
+  }
+
+  static String key(final PuzzleDefinition definition, final List<String> input) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    digest.update("%s@%d\n".formatted(definition.type().getName(), definition.version())
+                           .getBytes(UTF_8));
+    for (final var line : input) {
+      digest.update(line.getBytes(UTF_8));
+      digest.update((byte) '\n');
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private Optional<String> get(final String key) {
+    final var entry = directory.resolve(key + ENTRY_SUFFIX);
+    try {
+      final var result = Files.readString(entry, UTF_8);
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+      return Optional.of(result);
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void put(final String key, final String result) {
+    try {
+      Files.createDirectories(directory);
+      // Written aside then moved, so that concurrent readers never see a partial entry.
+      final var temporary = Files.createTempFile(directory, key, ".tmp");
+      Files.writeString(temporary, result, UTF_8);
+      Files.move(temporary, directory.resolve(key + ENTRY_SUFFIX),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      evict();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private synchronized void evict() throws IOException {
+    final List<Entry> entries;
+    try (final var files = Files.list(directory)) {
+      entries = files.filter(p -> p.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                     .map(ResultCache::entry)
+                     .flatMap(Optional::stream)
+                     .sorted(Comparator.comparing(Entry::lastAccess))
+                     .toList();
+    }
+
+    var size = entries.stream().mapToLong(Entry::size).sum();
+    for (final var entry : entries) {
+      if (size <= maxBytes) {
+        break;
+      }
+
+      Files.deleteIfExists(entry.path);
+      size -= entry.size;
+    }
+  }
+
+  private static Optional<Entry> entry(final Path path) {
+    try {
+      return Optional.of(new Entry(path, Files.size(path), Files.getLastModifiedTime(path)));
+    } catch (final NoSuchFileException e) {
+      // Evicted concurrently
+      return Optional.empty();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private record Entry(Path path, long size, FileTime lastAccess) {
+  }
+}
@@ -0,0 +1,61 @@
+package com.hathoute.adventofcode.day2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hathoute.adventofcode.day2.CubeGameIndex.QueryResult;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CubeGameIndexTest {
+
+  private static final List<String> GAMES = List.of(
+      "Game 1: 3 blue, 4 red; 1 red, 2 green, 6 blue; 2 green",
+      "Game 2: 1 blue, 2 green; 3 green, 4 blue, 1 red; 1 green, 1 blue",
+      "Game 3: 8 green, 6 blue, 20 red; 5 blue, 4 red, 13 green; 5 green, 1 red",
+      "Game 4: 1 green, 3 red, 6 blue; 3 green, 6 red; 3 green, 15 blue, 14 red",
+      "Game 5: 6 red, 1 blue, 3 green; 2 blue, 1 red, 2 green");
+
+  @Test
+  void answersExampleBag() {
+    final var index = CubeGameIndex.build(GAMES);
+
+    assertEquals(new QueryResult(3, 8), index.query(Map.of("red", 12, "green", 13, "blue", 14)));
+  }
+
+  @Test
+  void countsGamesOnTheEdgesOfTheTable() {
+    // Largest maxima are 20 red, 13 green and 15 blue.
+    final var index = CubeGameIndex.build(GAMES);
+
+    assertEquals(new QueryResult(0, 0), index.query(new int[]{0, 0, 0}));
+    assertEquals(new QueryResult(5, 15), index.query(new int[]{20, 13, 15}));
+    assertEquals(new QueryResult(4, 12), index.query(new int[]{19, 13, 15}));
+    assertEquals(new QueryResult(5, 15), index.query(new int[]{1000, 1000, 1000}));
+    assertEquals(new QueryResult(1, 2), index.query(new int[]{1, 3, 4}));
+    assertEquals(new QueryResult(0, 0), index.query(new int[]{1, 3, 3}));
+  }
+
+  @Test
+  void treatsUnconfiguredColoursAsEmpty() {
+    final var index = CubeGameIndex.build(List.of("Game 1: 2 red", "Game 2: 1 red, 1 blue"));
+
+    // Missing from the bag: no cube of that colour, unknown to the index: ignored.
+    assertEquals(new QueryResult(1, 1), index.query(Map.of("red", 2)));
+    assertEquals(new QueryResult(1, 1), index.query(Map.of("red", 2, "purple", 7)));
+    assertEquals(new QueryResult(2, 3), index.query(Map.of("red", 2, "blue", 1)));
+    assertThrows(IllegalArgumentException.class,
+        () -> CubeGameIndex.build(List.of("Game 1: 2 purple")));
+  }
+
+  @Test
+  void scansWhenTheTableWouldBeTooLarge() {
+    final var index = CubeGameIndex.build(List.of("Game 1: 5000 red, 5000 green, 1 blue",
+        "Game 2: 2 red, 3 green", "Game 3: 4999 red, 5000 green, 2 blue"));
+
+    assertEquals(new QueryResult(2, 3), index.query(new int[]{5000, 5000, 1}));
+    assertEquals(new QueryResult(2, 5), index.query(new int[]{4999, 5000, 2}));
+    assertEquals(new QueryResult(1, 2), index.query(new int[]{2, 3, 0}));
+  }
+}
@@ -0,0 +1,47 @@
+package com.hathoute.adventofcode.day2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CubeGamePossibilityTest {
+
+  private static final List<String> GAMES = List.of(
+      "Game 1: 3 blue, 4 red; 1 red, 2 green, 6 blue; 2 green",
+      "Game 2: 1 blue, 2 green; 3 green, 4 blue, 1 red; 1 green, 1 blue",
+      "Game 3: 8 green, 6 blue, 20 red; 5 blue, 4 red, 13 green; 5 green, 1 red",
+      "Game 4: 1 green, 3 red, 6 blue; 3 green, 6 red; 3 green, 15 blue, 14 red",
+      "Game 5: 6 red, 1 blue, 3 green; 2 blue, 1 red, 2 green");
+
+  @Test
+  void solvesExample() {
+    assertEquals("8", new CubeGamePossibilitySolution.CubeGamePossibility().solve(GAMES));
+    assertEquals("2286",
+        new CubeGamePossibilityPart2Solution.CubeGamePossibility().solve(GAMES));
+  }
+
+  @Test
+  void skipsBlankLines() {
+    final var games = List.of("Game 1: 3 red", "", "  ", "Game 2: 20 red");
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      assertEquals("1", new CubeGamePossibilitySolution.CubeGamePossibility().solve(games));
+      assertEquals("23",
+          new CubeGamePossibilityPart2Solution.CubeGamePossibility().solve(games));
+    });
+  }
+
+  @Test
+  void parsesLinesShorterThanTheGamePrefix() {
+    final var parser = new CubeGameParser(CubeGameParser.COLOURS, false);
+    final var maxima = new int[parser.colourCount()];
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      assertEquals(0, parser.parse("", maxima));
+      assertEquals(0, parser.parse("Game", maxima));
+    });
+  }
+}
@@ -0,0 +1,60 @@
+package com.hathoute.adventofcode.day4;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CardCopiesTest {
+
+  @Test
+  void countsExampleCards() {
+    assertEquals(30, total(4, 2, 2, 1, 0, 0));
+  }
+
+  @Test
+  void dropsCopiesPastTheLastCard() {
+    assertEquals(1, total(3));
+    assertEquals(3, total(0, 0, 5));
+    // The first card wins one copy of each other card, the second one copy of the third.
+    assertEquals(1 + 2 + 4, total(10, 10, 10));
+  }
+
+  @Test
+  void matchesBruteForceAcrossRingWraparounds() {
+    final var random = new Random(4);
+    for (var run = 0; run < 200; run++) {
+      final var matches = new int[1 + random.nextInt(40)];
+      final var maxMatches = 1 + random.nextInt(12);
+      for (var card = 0; card < matches.length; card++) {
+        matches[card] = random.nextInt(maxMatches);
+      }
+
+      assertEquals(bruteForce(matches), total(matches), () -> Arrays.toString(matches));
+    }
+  }
+
+  private static long total(final int... matches) {
+    final var copies = new CardCopies();
+    for (final var match : matches) {
+      copies.add(match);
+    }
+
+    return copies.total();
+  }
+
+  private static long bruteForce(final int[] matches) {
+    final var instances = new long[matches.length];
+    var total = 0L;
+    for (var card = 0; card < matches.length; card++) {
+      instances[card]++;
+      total += instances[card];
+      for (var won = card + 1; won <= card + matches[card] && won < matches.length; won++) {
+        instances[won] += instances[card];
+      }
+    }
+
+    return total;
+  }
+}
@@ -0,0 +1,76 @@
+package com.hathoute.adventofcode.day5;
+
+import static com.hathoute.adventofcode.day5.IntervalSetTest.assertIntervals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AlmanacFunctionTest {
+
+  private static final List<String> ALMANAC = List.of("seeds: 79 14 55 13", "",
+      "seed-to-soil map:", "50 98 2", "52 50 48", "",
+      "soil-to-fertilizer map:", "0 15 37", "37 52 2", "39 0 15", "",
+      "fertilizer-to-water map:", "49 53 8", "0 11 42", "42 0 7", "57 7 4", "",
+      "water-to-light map:", "88 18 7", "18 25 70", "",
+      "light-to-temperature map:", "45 77 23", "81 45 19", "68 64 13", "",
+      "temperature-to-humidity map:", "0 69 1", "1 0 69", "",
+      "humidity-to-location map:", "60 56 37", "56 93 4");
+
+  @Test
+  void compilesExampleChain() {
+    final var function = AlmanacFunction.compile(ALMANAC, "seed");
+    final var seeds = IntervalSet.union(new long[]{79, 55}, new long[]{93, 68}, 2);
+
+    assertEquals(82, function.apply(79));
+    assertEquals(43, function.apply(14));
+    assertEquals(86, function.apply(55));
+    assertEquals(35, function.apply(13));
+    assertEquals(46, function.image(seeds).min());
+    assertEquals(46, function.min(seeds, 0, seeds.size()));
+  }
+
+  @Test
+  void splitsIntervalsAcrossPieces() {
+    // [50, 98) moves up by 2, [98, 100) down to [50, 52).
+    final var function = AlmanacFunction.of(List.of(new long[]{50, 98, 2},
+        new long[]{52, 50, 48}));
+
+    assertIntervals(new long[][]{{50, 51}, {62, 100}},
+        function.image(IntervalSet.union(new long[]{60}, new long[]{99}, 1)));
+    // Pieces of [40, 55) and [95, 101) land next to each other and are merged back.
+    final var ranges = IntervalSet.union(new long[]{40, 95}, new long[]{55, 101}, 2);
+    assertIntervals(new long[][]{{40, 57}, {97, 101}}, function.image(ranges));
+    assertEquals(40, function.min(ranges, 0, 1));
+    assertEquals(50, function.min(ranges, 1, 2));
+  }
+
+  @Test
+  void mergesAdjacentPiecesOfEqualOffset() {
+    // Both mappings shift by 10, into a single piece followed by the unmapped numbers.
+    final var shifted = AlmanacFunction.of(List.of(new long[]{10, 0, 5}, new long[]{15, 5, 5}));
+    assertEquals(2, shifted.pieces());
+
+    // [0, 5) goes to [10, 15) then [5, 10), and [5, 10) to [10, 15): both shift by 5.
+    final var first = AlmanacFunction.of(List.<long[]>of(new long[]{10, 0, 5}));
+    final var second = AlmanacFunction.of(List.of(new long[]{5, 10, 5}, new long[]{10, 5, 5}));
+    final var chain = first.andThen(second);
+    assertEquals(3, chain.pieces());
+    assertEquals(7, chain.apply(2));
+    assertEquals(12, chain.apply(7));
+    assertEquals(7, chain.apply(12));
+    assertEquals(20, chain.apply(20));
+
+    // Images of [0, 5) and [5, 10) meet at 15.
+    final var swapped = AlmanacFunction.of(List.of(new long[]{20, 0, 5}, new long[]{15, 5, 5}));
+    assertIntervals(new long[][]{{15, 25}},
+        swapped.image(IntervalSet.union(new long[]{0}, new long[]{10}, 1)));
+  }
+
+  @Test
+  void rejectsOverlappingMappings() {
+    assertThrows(IllegalArgumentException.class,
+        () -> AlmanacFunction.of(List.of(new long[]{0, 10, 5}, new long[]{100, 14, 1})));
+  }
+}
@@ -0,0 +1,43 @@
+package com.hathoute.adventofcode.day5;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class IntervalSetTest {
+
+  @Test
+  void coalescesOverlappingAndNestedIntervals() {
+    final var set = IntervalSet.union(new long[]{30, 0, 5, 32, 50},
+        new long[]{40, 10, 8, 35, 51}, 5);
+
+    assertIntervals(new long[][]{{0, 10}, {30, 40}, {50, 51}}, set);
+  }
+
+  @Test
+  void mergesAdjacentIntervals() {
+    final var set = IntervalSet.union(new long[]{10, 0, 20, 31}, new long[]{20, 10, 30, 40}, 4);
+
+    assertIntervals(new long[][]{{0, 30}, {31, 40}}, set);
+  }
+
+  @Test
+  void onlyUnitesTheGivenSize() {
+    final var set = IntervalSet.union(new long[]{5, 0, 100}, new long[]{7, 1, 200}, 2);
+
+    assertIntervals(new long[][]{{0, 1}, {5, 7}}, set);
+    assertThrows(NoSuchElementException.class,
+        () -> IntervalSet.union(new long[0], new long[0], 0).min());
+  }
+
+  static void assertIntervals(final long[][] expected, final IntervalSet set) {
+    final var actual = new long[set.size()][];
+    for (var i = 0; i < set.size(); i++) {
+      actual[i] = new long[]{set.start(i), set.end(i)};
+    }
+
+    assertArrayEquals(expected, actual);
+  }
+}
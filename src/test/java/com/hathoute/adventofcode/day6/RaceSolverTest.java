@@ -0,0 +1,42 @@
+package com.hathoute.adventofcode.day6;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+
+class RaceSolverTest {
+
+  @Test
+  void countsExampleRaces() {
+    final var result = RaceSolver.waysToWinAll(new long[]{7, 15, 30}, new long[]{9, 40, 200});
+
+    assertArrayEquals(new long[]{4, 8, 9}, result.ways());
+    assertEquals(BigInteger.valueOf(288), result.product());
+    assertEquals(71503, RaceSolver.waysToWin(71530, 940200));
+  }
+
+  @Test
+  void matchesBruteForceOnSmallRaces() {
+    for (var time = 0L; time < 100; time++) {
+      for (var distance = 0L; distance <= time * time / 4 + 1; distance++) {
+        var expected = 0L;
+        for (var hold = 0L; hold <= time; hold++) {
+          expected += hold * (time - hold) > distance ? 1 : 0;
+        }
+
+        assertEquals(expected, RaceSolver.waysToWin(time, distance), time + "/" + distance);
+      }
+    }
+  }
+
+  @Test
+  void isExactAroundTheSwitchToBigIntegers() {
+    // Every hold but 0 and time beats a zero distance.
+    for (final var time : new long[]{RaceSolver.MAX_EXACT_TIME, RaceSolver.MAX_EXACT_TIME + 1}) {
+      assertEquals(time - 1, RaceSolver.waysToWin(time, 0));
+      assertEquals(time - 3, RaceSolver.waysToWin(time, time - 1));
+    }
+  }
+}
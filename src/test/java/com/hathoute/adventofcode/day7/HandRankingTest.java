@@ -0,0 +1,61 @@
+package com.hathoute.adventofcode.day7;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HandRankingTest {
+
+  private static final List<String> HANDS = List.of("32T3K 765", "T55J5 684", "KK677 28",
+      "KTJJT 220", "QQQJA 483");
+
+  @Test
+  void ranksExampleHands() {
+    assertEquals(6440, totalWinnings(false, HANDS));
+    assertEquals(5905, totalWinnings(true, HANDS));
+  }
+
+  @Test
+  void ranksIdenticalHandsInInsertionOrder() {
+    assertEquals(1 + 2 * 2, totalWinnings(false, List.of("AAAAA 1", "AAAAA 2")));
+    assertEquals(2 + 2, totalWinnings(false, List.of("AAAAA 2", "AAAAA 1")));
+    assertEquals(10 + 2 * 20, totalWinnings(true, List.of("JJJJJ 10", "JJJJJ 20")));
+
+    final var ranking = new HandRanking(false);
+    assertEquals(3, ranking.add(7, 3));
+    assertEquals(3 + 2 * 5, ranking.add(7, 5));
+    assertEquals(2 + 2 * 3 + 3 * 5, ranking.add(6, 2));
+    assertEquals(3, ranking.size());
+  }
+
+  @Test
+  void matchesSortedRankingAfterEveryHand() {
+    final var random = new Random(7);
+    final var cards = "2345JA";
+    for (final var jokers : new boolean[]{false, true}) {
+      final var ranking = new HandRanking(jokers);
+      final var lines = new ArrayList<String>();
+      for (var hand = 0; hand < 300; hand++) {
+        final var line = new StringBuilder();
+        for (var card = 0; card < CamelHands.HAND_SIZE; card++) {
+          line.append(cards.charAt(random.nextInt(cards.length())));
+        }
+        line.append(' ').append(1 + random.nextInt(1000));
+        lines.add(line.toString());
+
+        assertEquals(totalWinnings(jokers, lines), ranking.add(line), line::toString);
+      }
+      assertEquals(lines.size(), ranking.size());
+    }
+  }
+
+  private static long totalWinnings(final boolean jokers, final List<String> lines) {
+    final var hands = new CamelHands(jokers);
+    lines.forEach(hands::add);
+
+    return hands.totalWinnings();
+  }
+}